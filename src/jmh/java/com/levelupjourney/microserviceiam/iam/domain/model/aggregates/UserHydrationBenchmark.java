@@ -0,0 +1,90 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.aggregates;
+
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.EmailAddress;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.HashedPassword;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.LegacyPasswordPolicy;
+import com.levelupjourney.microserviceiam.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of hydrating a {@link User} from a row, the way Hibernate does it with field access: the no-arg constructor,
+ * then one field write per column, with embedded records built through their canonical constructor.
+ * The {@code legacy} benchmark runs the password policy on the stored hash, as the validating embedded
+ * {@code Password} did on every load before the hash was mapped to {@link HashedPassword}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserHydrationBenchmark {
+    private static final String PASSWORD_HASH = "{bcrypt}$2a$12$lWdpPG5P/nxSFyOnwI8YXOTi1tK0hxFFNUhGmaWnb2HgZQrBDlR5u";
+
+    private final UUID id = UUID.randomUUID();
+    private final Date createdAt = new Date();
+    private EmailAddress emailAddress;
+
+    private Field idField;
+    private Field createdAtField;
+    private Field updatedAtField;
+    private Field emailAddressField;
+    private Field userPasswordField;
+    private Field roleMaskField;
+    private Field tokenVersionField;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        emailAddress = new EmailAddress("benchmark@example.com");
+        idField = field(AuditableAbstractAggregateRoot.class, "id");
+        createdAtField = field(AuditableAbstractAggregateRoot.class, "createdAt");
+        updatedAtField = field(AuditableAbstractAggregateRoot.class, "updatedAt");
+        emailAddressField = field(User.class, "emailAddress");
+        userPasswordField = field(User.class, "userPassword");
+        roleMaskField = field(User.class, "roleMask");
+        tokenVersionField = field(User.class, "tokenVersion");
+        LegacyPasswordPolicy.validate(PASSWORD_HASH);
+    }
+
+    @Benchmark
+    public User hydrate() throws IllegalAccessException {
+        return hydrate(new HashedPassword(PASSWORD_HASH));
+    }
+
+    @Benchmark
+    public User legacyHydrate() throws IllegalAccessException {
+        return hydrate(new HashedPassword(LegacyPasswordPolicy.validate(PASSWORD_HASH)));
+    }
+
+    private User hydrate(HashedPassword userPassword) throws IllegalAccessException {
+        var user = new User();
+        idField.set(user, id);
+        createdAtField.set(user, createdAt);
+        updatedAtField.set(user, createdAt);
+        emailAddressField.set(user, emailAddress);
+        userPasswordField.set(user, userPassword);
+        roleMaskField.setShort(user, (short) 1);
+        tokenVersionField.setInt(user, 0);
+        return user;
+    }
+
+    private static Field field(Class<?> type, String name) throws NoSuchFieldException {
+        var field = type.getDeclaredField(name);
+        field.setAccessible(true);
+        return field;
+    }
+}
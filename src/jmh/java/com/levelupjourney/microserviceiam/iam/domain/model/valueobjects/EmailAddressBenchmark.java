@@ -0,0 +1,80 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.valueobjects;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link EmailAddress} against the regex based {@link LegacyEmailAddress}.
+ * <p>
+ *     The sign-up benchmarks validate an address as entered and read what a sign-up reads from it: the normalized
+ *     address twice (the uniqueness check and the token) and both parts (the registration event).
+ *     The hydration benchmarks build the address the way Hibernate does when a user is loaded, and read the
+ *     normalized address once, as every {@code User.getEmail()} call does: the legacy record through its validating
+ *     canonical constructor, the current class through its no-arg constructor and one field write per column.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailAddressBenchmark {
+    private static final String ENTERED = " Jane.Doe+levelup@Example.com ";
+    private static final String STORED = "Jane.Doe+levelup@Example.com";
+    private static final String STORED_NORMALIZED = "jane.doe+levelup@example.com";
+
+    private Field emailField;
+    private Field normalizedField;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        emailField = EmailAddress.class.getDeclaredField("email");
+        emailField.setAccessible(true);
+        normalizedField = EmailAddress.class.getDeclaredField("normalized");
+        normalizedField.setAccessible(true);
+    }
+
+    @Benchmark
+    public void signUp(Blackhole blackhole) {
+        var emailAddress = new EmailAddress(ENTERED);
+        blackhole.consume(emailAddress.normalized());
+        blackhole.consume(emailAddress.normalized());
+        blackhole.consume(emailAddress.getLocalPart());
+        blackhole.consume(emailAddress.getDomainPart());
+    }
+
+    @Benchmark
+    public void legacySignUp(Blackhole blackhole) {
+        var emailAddress = new LegacyEmailAddress(ENTERED);
+        blackhole.consume(emailAddress.normalized());
+        blackhole.consume(emailAddress.normalized());
+        blackhole.consume(emailAddress.getLocalPart());
+        blackhole.consume(emailAddress.getDomainPart());
+    }
+
+    @Benchmark
+    public String hydrate() throws IllegalAccessException {
+        var emailAddress = new EmailAddress();
+        emailField.set(emailAddress, STORED);
+        normalizedField.set(emailAddress, STORED_NORMALIZED);
+        return emailAddress.normalized();
+    }
+
+    @Benchmark
+    public String legacyHydrate() {
+        return new LegacyEmailAddress(STORED).normalized();
+    }
+}
@@ -0,0 +1,80 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.valueobjects;
+
+import java.util.regex.Pattern;
+
+/**
+ * The password policy as {@link Password} checked it before the single pass, with regexes and repeated lowercasing.
+ * It is kept for the benchmarks only, as the baseline the current implementations are measured against.
+ */
+public final class LegacyPasswordPolicy {
+
+    private static final int MIN_LENGTH = 8;
+    private static final int MAX_LENGTH = 128;
+
+    private static final Pattern HAS_LOWERCASE = Pattern.compile(".*[a-z].*");
+    private static final Pattern HAS_UPPERCASE = Pattern.compile(".*[A-Z].*");
+    private static final Pattern HAS_DIGIT = Pattern.compile(".*[0-9].*");
+    private static final Pattern HAS_SPECIAL = Pattern.compile(".*[!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>\\/?].*");
+    private static final Pattern NO_SEQUENTIAL = Pattern.compile("^(?!.*(?:012|123|234|345|456|567|678|789|890|abc|bcd|cde|def|efg|fgh|ghi|hij|ijk|jkl|klm|lmn|mno|nop|opq|pqr|qrs|rst|stu|tuv|uvw|vwx|wxy|xyz)).*$");
+
+    private LegacyPasswordPolicy() {
+    }
+
+    /**
+     * Validate a password
+     * @param password the password
+     * @return the password
+     * @throws IllegalArgumentException with the same messages as {@link Password} if the password violates the policy
+     */
+    public static String validate(String password) {
+        if (password == null || password.isEmpty()) {
+            throw new IllegalArgumentException("Password cannot be null or empty");
+        }
+        if (password.length() < MIN_LENGTH) {
+            throw new IllegalArgumentException("Password must be at least " + MIN_LENGTH + " characters long");
+        }
+        if (password.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("Password cannot exceed " + MAX_LENGTH + " characters");
+        }
+        if (!HAS_LOWERCASE.matcher(password).matches()) {
+            throw new IllegalArgumentException("Password must contain at least one lowercase letter");
+        }
+        if (!HAS_UPPERCASE.matcher(password).matches()) {
+            throw new IllegalArgumentException("Password must contain at least one uppercase letter");
+        }
+        if (!HAS_DIGIT.matcher(password).matches()) {
+            throw new IllegalArgumentException("Password must contain at least one digit");
+        }
+        if (!HAS_SPECIAL.matcher(password).matches()) {
+            throw new IllegalArgumentException("Password must contain at least one special character (!@#$%^&*()_+-=[]{}|;':\"\\,.<>?/)");
+        }
+        if (!NO_SEQUENTIAL.matcher(password.toLowerCase()).matches()) {
+            throw new IllegalArgumentException("Password cannot contain sequential characters (123, abc, etc.)");
+        }
+        String lowerPassword = password.toLowerCase();
+        String[] commonPasswords = {
+                "password", "123456789", "qwerty", "admin", "letmein",
+                "welcome", "monkey", "dragon", "master", "shadow",
+                "password123", "admin123", "qwerty123"
+        };
+        for (String weak : commonPasswords) {
+            if (lowerPassword.contains(weak)) {
+                throw new IllegalArgumentException("Password cannot contain common weak patterns");
+            }
+        }
+        for (int i = 0; i < password.length() - 3; i++) {
+            char current = password.charAt(i);
+            boolean hasRepeated = true;
+            for (int j = i + 1; j < i + 4 && j < password.length(); j++) {
+                if (password.charAt(j) != current) {
+                    hasRepeated = false;
+                    break;
+                }
+            }
+            if (hasRepeated) {
+                throw new IllegalArgumentException("Password cannot contain more than 3 consecutive identical characters");
+            }
+        }
+        return password;
+    }
+}
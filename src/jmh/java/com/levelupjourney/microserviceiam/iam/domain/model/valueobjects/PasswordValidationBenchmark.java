@@ -0,0 +1,66 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.valueobjects;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of checking a password against the policy: the single pass of {@link Password}
+ * against the regexes of {@link LegacyPasswordPolicy}.
+ * The passwords are a valid one, a valid one of the maximum length, and one rejected by the last pattern check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordValidationBenchmark {
+
+    @Param({"valid", "maximum-length", "weak"})
+    public String password;
+
+    private String value;
+
+    @Setup
+    public void setUp() {
+        value = switch (password) {
+            case "valid" -> "Kx7!mQz#Lp2@wR9t";
+            case "maximum-length" -> "Kx7!mQz#Lp2@wR9t".repeat(8);
+            case "weak" -> "Kx7!mQz#Lp2@wR9tShadow";
+            default -> throw new IllegalArgumentException("Unknown password " + password);
+        };
+        if (!Objects.equals(validate(), legacyValidate())) {
+            throw new IllegalStateException("The policies disagree on " + password);
+        }
+    }
+
+    @Benchmark
+    public String validate() {
+        try {
+            return new Password(value).password();
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String legacyValidate() {
+        try {
+            return LegacyPasswordPolicy.validate(value);
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+}
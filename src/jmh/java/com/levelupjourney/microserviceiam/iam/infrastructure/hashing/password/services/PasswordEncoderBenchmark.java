@@ -0,0 +1,84 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.hashing.password.services;
+
+import com.levelupjourney.microserviceiam.iam.infrastructure.configuration.HashingConfigurationProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the password encoder built by {@link PasswordEncoderFactory}, per algorithm and parameter set.
+ * Each throughput is what one hashing thread sustains, so multiplied by the hashing pool size it bounds the sign-ins
+ * per second of a node. Run with {@code -prof gc} to get the memory allocated per hash, which for Argon2 is
+ * its memory cost.
+ * <p>
+ *     A parameter set is {@code bcrypt:<strength>}, {@code argon2:<memory KiB>:<iterations>}
+ *     or {@code pbkdf2:<algorithm>:<iterations>}, the values bound from {@code app.hashing}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+    private static final String PASSWORD = "Benchmark-Password-1";
+
+    @Param({
+            "bcrypt:10",
+            "bcrypt:12",
+            "argon2:19456:2",
+            "argon2:47104:1",
+            "pbkdf2:PBKDF2WithHmacSHA256:600000",
+            "pbkdf2:PBKDF2WithHmacSHA512:210000"})
+    public String parameters;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        var properties = new HashingConfigurationProperties();
+        var values = parameters.split(":");
+        properties.setAlgorithm(values[0]);
+        switch (values[0]) {
+            case PasswordEncoderFactory.BCRYPT -> properties.getBcrypt().setStrength(Integer.parseInt(values[1]));
+            case PasswordEncoderFactory.ARGON2 -> {
+                properties.getArgon2().setMemory(Integer.parseInt(values[1]));
+                properties.getArgon2().setIterations(Integer.parseInt(values[2]));
+            }
+            case PasswordEncoderFactory.PBKDF2 -> {
+                properties.getPbkdf2().setAlgorithm(values[1]);
+                properties.getPbkdf2().setIterations(Integer.parseInt(values[2]));
+                properties.getPbkdf2().setSecret("benchmark-secret");
+            }
+            default -> throw new IllegalArgumentException("Unknown parameter set " + parameters);
+        }
+        passwordEncoder = PasswordEncoderFactory.create(properties);
+        encodedPassword = passwordEncoder.encode(PASSWORD);
+        if (!passwordEncoder.matches(PASSWORD, encodedPassword)) {
+            throw new IllegalStateException("Encoded password does not match with " + parameters);
+        }
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(PASSWORD, encodedPassword);
+    }
+}
@@ -0,0 +1,101 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.services;
+
+import ch.qos.logback.classic.Level;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.levelupjourney.microserviceiam.iam.domain.model.aggregates.User;
+import com.levelupjourney.microserviceiam.iam.domain.model.entities.Role;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.Roles;
+import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.keys.JwtKeyRing;
+import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.revocation.TokenVersionRegistry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.lang3.time.DateUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link TokenServiceImpl#validateToken(String)} and {@link TokenServiceImpl#generateToken(User)}.
+ * The {@code legacy} benchmarks reproduce the service before the signing key and the parser were built once:
+ * they derive the HMAC key from the secret and build a new parser on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenServiceBenchmark {
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+
+    private TokenServiceImpl tokenService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        var keyRing = new JwtKeyRing(new StandardEnvironment(), new ObjectMapper(), _ -> {
+        }, "HS256", "default", SECRET, "", "");
+        tokenService = new TokenServiceImpl(keyRing, new TokenVersionRegistry(null), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(tokenService, "expirationHours", 1);
+        tokenService.initialize();
+
+        user = new User("benchmark@example.com", "{bcrypt}hash", List.of(new Role(Roles.ROLE_STUDENT)));
+        ReflectionTestUtils.setField(user, "id", UUID.randomUUID());
+        token = tokenService.generateToken(user);
+        if (!tokenService.validateToken(token) || legacyValidateToken() == null) {
+            throw new IllegalStateException("Benchmark token is not valid");
+        }
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenService.validateToken(token);
+    }
+
+    @Benchmark
+    public Claims legacyValidateToken() {
+        var key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public String legacyGenerateToken() {
+        var issuedAt = new Date();
+        var expiration = DateUtils.addHours(issuedAt, 1);
+        var key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.builder()
+                .subject(user.getEmail())
+                .claim("userId", user.getId())
+                .claim("email", user.getEmail())
+                .claim("roles", user.getRoles().stream().map(Roles::name).toList())
+                .issuedAt(issuedAt)
+                .expiration(expiration)
+                .signWith(key)
+                .compact();
+    }
+}
@@ -5,6 +5,7 @@ import com.levelupjourney.microserviceiam.iam.domain.model.entities.Role;
 import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.Roles;
 import com.levelupjourney.microserviceiam.iam.domain.services.RoleCommandService;
 import com.levelupjourney.microserviceiam.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
+import com.levelupjourney.microserviceiam.iam.infrastructure.roles.RoleRegistry;
 import org.springframework.stereotype.Service;
 
 import java.util.Arrays;
@@ -16,13 +17,16 @@ import java.util.Arrays;
 public class RoleCommandServiceImpl implements RoleCommandService {
 
     private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
 
-    public RoleCommandServiceImpl(RoleRepository roleRepository) {
+    public RoleCommandServiceImpl(RoleRepository roleRepository, RoleRegistry roleRegistry) {
         this.roleRepository = roleRepository;
+        this.roleRegistry = roleRegistry;
     }
 
     /**
-     * This method will handle the {@link SeedRolesCommand} and will create the roles if not exists
+     * This method will handle the {@link SeedRolesCommand} and will create the roles if not exists,
+     * then refresh the {@link RoleRegistry}
      * @param command {@link SeedRolesCommand}
      * @see SeedRolesCommand
      */
@@ -33,5 +37,6 @@ public class RoleCommandServiceImpl implements RoleCommandService {
                 roleRepository.save(new Role(Roles.valueOf(role.name())));
             }
         } );
+        roleRegistry.refresh();
     }
 }
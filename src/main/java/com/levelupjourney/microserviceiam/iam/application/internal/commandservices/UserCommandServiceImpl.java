@@ -1,71 +1,113 @@
 package com.levelupjourney.microserviceiam.iam.application.internal.commandservices;
 
+import com.levelupjourney.microserviceiam.iam.application.internal.outboundservices.hashing.HashingCapacityExceededException;
 import com.levelupjourney.microserviceiam.iam.application.internal.outboundservices.hashing.HashingService;
 import com.levelupjourney.microserviceiam.iam.application.internal.outboundservices.tokens.TokenService;
 import com.levelupjourney.microserviceiam.iam.domain.model.aggregates.User;
+import com.levelupjourney.microserviceiam.iam.domain.model.commands.RefreshTokenCommand;
+import com.levelupjourney.microserviceiam.iam.domain.model.commands.RevokeUserTokensCommand;
 import com.levelupjourney.microserviceiam.iam.domain.model.commands.SignInCommand;
 import com.levelupjourney.microserviceiam.iam.domain.model.commands.SignUpCommand;
 import com.levelupjourney.microserviceiam.iam.domain.model.entities.Role;
 import com.levelupjourney.microserviceiam.iam.domain.model.events.UserRegisteredEvent;
+import com.levelupjourney.microserviceiam.iam.domain.model.events.UserTokensInvalidatedEvent;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.Password;
 import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.TokenPair;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserCredentials;
 import com.levelupjourney.microserviceiam.iam.domain.services.UserCommandService;
+import com.levelupjourney.microserviceiam.iam.infrastructure.authorization.sfs.pipeline.BearerTokenAuthenticationCache;
 import com.levelupjourney.microserviceiam.iam.infrastructure.eventpublishers.IamEventPublisher;
-import com.levelupjourney.microserviceiam.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
+import com.levelupjourney.microserviceiam.iam.infrastructure.hashing.password.services.PasswordRehashExecutor;
+import com.levelupjourney.microserviceiam.iam.infrastructure.persistence.jpa.repositories.UserCredentialsRow;
 import com.levelupjourney.microserviceiam.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+import com.levelupjourney.microserviceiam.iam.infrastructure.roles.RoleRegistry;
+import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.revocation.RefreshTokenRevocationStore;
+import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.revocation.TokenVersionRegistry;
+import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.services.TokenIntrospectionService;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.password.CompromisedPasswordChecker;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * User command service implementation
  * <p>
  *     This class implements the {@link UserCommandService} interface and provides the implementation for the
- *     {@link SignInCommand} and {@link SignUpCommand} commands.
+ *     {@link SignInCommand}, {@link SignUpCommand}, {@link RefreshTokenCommand} and {@link RevokeUserTokensCommand} commands.
  * </p>
  */
 @Service
 public class UserCommandServiceImpl implements UserCommandService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(UserCommandServiceImpl.class);
 
     private final UserRepository userRepository;
     private final HashingService hashingService;
     private final TokenService tokenService;
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
     private final IamEventPublisher eventPublisher;
+    private final RefreshTokenRevocationStore refreshTokenRevocationStore;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final TokenIntrospectionService tokenIntrospectionService;
+    private final BearerTokenAuthenticationCache authenticationCache;
+    private final CompromisedPasswordChecker compromisedPasswordChecker;
+    private final PasswordRehashExecutor passwordRehashExecutor;
 
     public UserCommandServiceImpl(UserRepository userRepository,
                                  HashingService hashingService,
                                  TokenService tokenService,
-                                 RoleRepository roleRepository,
-                                 IamEventPublisher eventPublisher) {
+                                 RoleRegistry roleRegistry,
+                                 IamEventPublisher eventPublisher,
+                                 RefreshTokenRevocationStore refreshTokenRevocationStore,
+                                 TokenVersionRegistry tokenVersionRegistry,
+                                 TokenIntrospectionService tokenIntrospectionService,
+                                 BearerTokenAuthenticationCache authenticationCache,
+                                 CompromisedPasswordChecker compromisedPasswordChecker,
+                                 PasswordRehashExecutor passwordRehashExecutor) {
         this.userRepository = userRepository;
         this.hashingService = hashingService;
         this.tokenService = tokenService;
-        this.roleRepository = roleRepository;
+        this.roleRegistry = roleRegistry;
         this.eventPublisher = eventPublisher;
+        this.refreshTokenRevocationStore = refreshTokenRevocationStore;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.tokenIntrospectionService = tokenIntrospectionService;
+        this.authenticationCache = authenticationCache;
+        this.compromisedPasswordChecker = compromisedPasswordChecker;
+        this.passwordRehashExecutor = passwordRehashExecutor;
     }
 
     /**
      * Handle the sign-in command
      * <p>
-     *     This method handles the {@link SignInCommand} command and returns the user and the token pair.
+     *     This method handles the {@link SignInCommand} command and returns the user credentials and the token pair.
+     *     The credentials are read in a single query without loading the user aggregate.
      * </p>
      * @param command the sign-in command containing the email and password
-     * @return and optional containing the user matching the email and the generated token pair
+     * @return and optional containing the credentials of the user matching the email and the generated token pair
      * @throws RuntimeException if the user is not found or the password is invalid
      */
     @Override
-    public Optional<ImmutablePair<User, TokenPair>> handle(SignInCommand command) {
-        var user = userRepository.findByEmail(command.email());
-        if (user.isEmpty())
+    public Optional<ImmutablePair<UserCredentials, TokenPair>> handle(SignInCommand command) {
+        var credentials = userRepository.findCredentialsByEmail(command.email()).map(UserCommandServiceImpl::toUserCredentials);
+        if (credentials.isEmpty())
             throw new RuntimeException("User not found");
-        if (!hashingService.matches(command.password(), user.get().getPassword()))
+        if (!hashingService.matches(command.password(), credentials.get().password()))
             throw new RuntimeException("Invalid password");
-        var accessToken = tokenService.generateToken(user.get());
-        var refreshToken = tokenService.generateRefreshToken(user.get().getEmail());
+        rehashPasswordIfOutdated(credentials.get().id(), credentials.get().password(), command.password());
+        var accessToken = tokenService.generateToken(credentials.get());
+        var refreshToken = tokenService.generateRefreshToken(credentials.get());
         var tokenPair = new TokenPair(accessToken, refreshToken);
-        return Optional.of(ImmutablePair.of(user.get(), tokenPair));
+        return Optional.of(ImmutablePair.of(credentials.get(), tokenPair));
+    }
+
+    private static UserCredentials toUserCredentials(UserCredentialsRow row) {
+        return new UserCredentials(row.getId(), row.getEmail(), row.getPassword(), row.getTokenVersion(), row.getRoleMask());
     }
 
     /**
@@ -80,9 +122,12 @@ public class UserCommandServiceImpl implements UserCommandService {
     public Optional<User> handle(SignUpCommand command) {
         if (userRepository.existsByEmail(command.email()))
             throw new RuntimeException("Email address already exists");
+        var password = new Password(command.password());
+        if (compromisedPasswordChecker.check(password.password()).isCompromised())
+            throw new RuntimeException("Password has appeared in a data breach");
         var validatedRoles = Role.validateRoleSet(command.roles());
-        var roles = validatedRoles.stream().map(role -> roleRepository.findByName(role.getName()).orElseThrow(() -> new RuntimeException("Role name not found"))).toList();
-        var user = new User(command.email(), hashingService.encode(command.password()), roles);
+        var roles = validatedRoles.stream().map(role -> roleRegistry.find(role.getName()).orElseThrow(() -> new RuntimeException("Role name not found"))).toList();
+        var user = new User(command.email(), hashingService.encode(password.password()), roles);
         userRepository.save(user);
 
         var savedUser = userRepository.findByEmail(command.email());
@@ -95,6 +140,94 @@ public class UserCommandServiceImpl implements UserCommandService {
         return savedUser;
     }
 
+    /**
+     * Handle the refresh token command
+     * <p>
+     *     This method handles the {@link RefreshTokenCommand} command. The refresh token is consumed,
+     *     so a new access token and a new refresh token are issued and the old refresh token cannot be used again.
+     *     A refresh token presented twice has leaked, so every token of the user is revoked.
+     * </p>
+     * @param command the refresh token command containing the refresh token
+     * @return an optional containing the user and the new token pair
+     * @throws RuntimeException if the refresh token is invalid or already used, or the user is not found
+     */
+    @Override
+    public Optional<ImmutablePair<User, TokenPair>> handle(RefreshTokenCommand command) {
+        var claims = tokenService.verifyRefreshToken(command.refreshToken())
+                .orElseThrow(() -> new RuntimeException("Invalid refresh token"));
+        var user = userRepository.findByEmail(claims.subject());
+        if (user.isEmpty())
+            throw new RuntimeException("User not found");
+        if (claims.tokenVersion() < user.get().getTokenVersion())
+            throw new RuntimeException("Invalid refresh token");
+        if (!refreshTokenRevocationStore.consume(claims.tokenId(), claims.expiresAt())) {
+            LOGGER.warn("Refresh token reused for user {}, revoking all of their tokens", user.get().getId());
+            revokeTokens(user.get());
+            throw new RuntimeException("Refresh token already used");
+        }
+        var accessToken = tokenService.generateToken(user.get());
+        var refreshToken = tokenService.generateRefreshToken(user.get());
+        return Optional.of(ImmutablePair.of(user.get(), new TokenPair(accessToken, refreshToken)));
+    }
+
+    /**
+     * Handle the revoke user tokens command
+     * <p>
+     *     This method handles the {@link RevokeUserTokensCommand} command. It bumps the token version of the user,
+     *     which invalidates every access and refresh token issued before, and publishes the new version
+     *     so every IAM instance rejects those tokens without querying the database.
+     * </p>
+     * @param command the revoke user tokens command containing the user id
+     * @return an optional containing the user, or empty if the user is not found
+     */
+    @Override
+    @Transactional
+    public Optional<User> handle(RevokeUserTokensCommand command) {
+        var user = userRepository.findById(command.userId());
+        if (user.isEmpty())
+            return Optional.empty();
+        revokeTokens(user.get());
+        return user;
+    }
+
+    /**
+     * Bump the token version of a user, which invalidates every access and refresh token issued before,
+     * and publish the new version to every IAM instance.
+     * @param user the user whose tokens are revoked
+     */
+    private void revokeTokens(User user) {
+        var tokenVersion = user.incrementTokenVersion();
+        userRepository.save(user);
+        tokenVersionRegistry.update(user.getId(), tokenVersion);
+        tokenIntrospectionService.evictUser(user.getId());
+        authenticationCache.evictUser(user.getId());
+        eventPublisher.publishUserTokensInvalidated(
+                new UserTokensInvalidatedEvent(user.getId(), tokenVersion, LocalDateTime.now()));
+    }
+
+    /**
+     * Hash the password again in the background when it was hashed with outdated parameters.
+     * The sign-in does not wait for it, and the new hash is only stored if the password has not changed meanwhile.
+     * The new hash is stored on the {@link PasswordRehashExecutor}, so the database write never holds a hashing thread.
+     * @param userId the id of the signed-in user
+     * @param currentPassword the stored password hash
+     * @param rawPassword the verified raw password
+     */
+    private void rehashPasswordIfOutdated(UUID userId, String currentPassword, String rawPassword) {
+        if (!hashingService.upgradeEncoding(currentPassword))
+            return;
+        try {
+            hashingService.encodeAsync(rawPassword)
+                    .thenAcceptAsync(newPassword -> userRepository.updatePassword(userId, currentPassword, newPassword), passwordRehashExecutor)
+                    .exceptionally(e -> {
+                        LOGGER.warn("Could not rehash the password of user {}: {}", userId, e.getMessage());
+                        return null;
+                    });
+        } catch (HashingCapacityExceededException e) {
+            LOGGER.debug("Skipping password rehash of user {} while hashing capacity is exhausted", userId);
+        }
+    }
+
     /**
      * Publishes a user registered event to Kafka
      * Extracts email parts to generate basic first/last name for local registrations
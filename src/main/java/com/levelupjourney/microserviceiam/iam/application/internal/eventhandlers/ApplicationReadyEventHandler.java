@@ -1,59 +0,0 @@
-package com.levelupjourney.microserviceiam.iam.application.internal.eventhandlers;
-
-import com.levelupjourney.microserviceiam.iam.domain.model.commands.SeedRolesCommand;
-import com.levelupjourney.microserviceiam.iam.domain.services.RoleCommandService;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
-import org.springframework.context.event.EventListener;
-import org.springframework.stereotype.Service;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.sql.Timestamp;
-
-/**
- * ApplicationReadyEventHandler class
- * This class is used to handle the ApplicationReadyEvent
- */
-@Service
-public class ApplicationReadyEventHandler {
-    private final RoleCommandService roleCommandService;
-    private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationReadyEventHandler.class);
-
-    @PersistenceContext
-    private EntityManager entityManager;
-
-    public ApplicationReadyEventHandler(RoleCommandService roleCommandService) {
-        this.roleCommandService = roleCommandService;
-    }
-
-    /**
-     * Handle the ApplicationReadyEvent
-     * This method is used to seed the roles
-     * @param event the ApplicationReadyEvent the event to handle
-     */
-    @EventListener
-    @Transactional
-    public void on(ApplicationReadyEvent event) {
-        var applicationName = event.getApplicationContext().getId();
-        LOGGER.info("Starting to verify if roles seeding is needed for {} at {}", applicationName, currentTimestamp());
-        
-        // Drop the constraint that's causing issues
-        try {
-            entityManager.createNativeQuery("ALTER TABLE role DROP CONSTRAINT IF EXISTS role_name_check").executeUpdate();
-            LOGGER.info("Dropped role_name_check constraint");
-        } catch (Exception e) {
-            LOGGER.warn("Could not drop role_name_check constraint: {}", e.getMessage());
-        }
-        
-        var seedRolesCommand = new SeedRolesCommand();
-        roleCommandService.handle(seedRolesCommand);
-        LOGGER.info("Roles seeding verification finished for {} at {}", applicationName, currentTimestamp());
-    }
-
-    private Timestamp currentTimestamp() {
-        return new Timestamp(System.currentTimeMillis());
-    }
-}
@@ -0,0 +1,25 @@
+package com.levelupjourney.microserviceiam.iam.application.internal.outboundservices.hashing;
+
+import java.time.Duration;
+
+/**
+ * HashingCapacityExceededException
+ * This exception is thrown when the password hashing queue is full, so the request can be rejected quickly
+ * and retried later instead of waiting for hashing capacity
+ */
+public class HashingCapacityExceededException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public HashingCapacityExceededException(Duration retryAfter) {
+        super("Password hashing capacity exceeded");
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Get how long the client should wait before retrying
+     * @return Duration the retry delay
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -1,5 +1,7 @@
 package com.levelupjourney.microserviceiam.iam.application.internal.outboundservices.hashing;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * HashingService interface
  * This interface is used to encode and match passwords
@@ -20,4 +22,18 @@ public interface HashingService {
      */
     boolean matches(CharSequence rawPassword, String encodedPassword);
 
+    /**
+     * Encode a password without waiting for the result
+     * @param rawPassword the password to encode
+     * @return CompletableFuture the encoded password
+     */
+    CompletableFuture<String> encodeAsync(CharSequence rawPassword);
+
+    /**
+     * Check if an encoded password should be encoded again with the current parameters
+     * @param encodedPassword the encoded password
+     * @return boolean true if the password should be encoded again, false otherwise
+     */
+    boolean upgradeEncoding(String encodedPassword);
+
 }
@@ -1,10 +1,11 @@
 package com.levelupjourney.microserviceiam.iam.application.internal.outboundservices.tokens;
 
 import com.levelupjourney.microserviceiam.iam.domain.model.aggregates.User;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.RefreshTokenClaims;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserCredentials;
 
 import java.util.List;
-
-import java.util.List;
+import java.util.Optional;
 
 /**
  * TokenService interface
@@ -13,18 +14,18 @@ import java.util.List;
 public interface TokenService {
 
     /**
-     * Generate a token for a given username
-     * @param email the email
-     * @return String the token
+     * Generate a refresh token for a given user, carrying the current token version of the user
+     * @param user the user
+     * @return String the refresh token
      */
-    String generateToken(String email);
+    String generateRefreshToken(User user);
 
     /**
-     * Generate a refresh token for a given email
-     * @param email the email
+     * Generate a refresh token from the credentials of a user, carrying the current token version of the user
+     * @param credentials the user credentials
      * @return String the refresh token
      */
-    String generateRefreshToken(String email);
+    String generateRefreshToken(UserCredentials credentials);
 
     /**
      * Extract the email from a token
@@ -47,6 +48,13 @@ public interface TokenService {
      */
     boolean validateRefreshToken(String refreshToken);
 
+    /**
+     * Verify a refresh token and extract its claims
+     * @param refreshToken the refresh token
+     * @return Optional the refresh token claims, or empty if the refresh token is not valid
+     */
+    Optional<RefreshTokenClaims> verifyRefreshToken(String refreshToken);
+
     /**
      * Extract the email from a refresh token
      * @param refreshToken the refresh token
@@ -61,6 +69,13 @@ public interface TokenService {
      */
     String generateToken(User user);
 
+    /**
+     * Generate a token from the credentials of a user
+     * @param credentials the user credentials
+     * @return String the token
+     */
+    String generateToken(UserCredentials credentials);
+
     /**
      * Extract the userId from a token
      * @param token the token
@@ -4,7 +4,7 @@ import com.levelupjourney.microserviceiam.iam.domain.model.entities.Role;
 import com.levelupjourney.microserviceiam.iam.domain.model.queries.GetAllRolesQuery;
 import com.levelupjourney.microserviceiam.iam.domain.model.queries.GetRoleByNameQuery;
 import com.levelupjourney.microserviceiam.iam.domain.services.RoleQueryService;
-import com.levelupjourney.microserviceiam.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
+import com.levelupjourney.microserviceiam.iam.infrastructure.roles.RoleRegistry;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -12,18 +12,18 @@ import java.util.Optional;
 
 /**
  * RoleQueryServiceImpl class
- * This class is used to handle the role queries
+ * This class is used to handle the role queries, which are served from the {@link RoleRegistry}
  */
 @Service
 public class RoleQueryServiceImpl implements RoleQueryService {
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
 
     /**
      * RoleQueryServiceImpl constructor
-     * @param roleRepository the role repository
+     * @param roleRegistry the role registry
      */
-    public RoleQueryServiceImpl(RoleRepository roleRepository) {
-        this.roleRepository = roleRepository;
+    public RoleQueryServiceImpl(RoleRegistry roleRegistry) {
+        this.roleRegistry = roleRegistry;
     }
 
     /**
@@ -33,7 +33,7 @@ public class RoleQueryServiceImpl implements RoleQueryService {
      */
     @Override
     public List<Role> handle(GetAllRolesQuery query) {
-        return roleRepository.findAll();
+        return roleRegistry.all();
     }
 
     /**
@@ -43,6 +43,6 @@ public class RoleQueryServiceImpl implements RoleQueryService {
      */
     @Override
     public Optional<Role> handle(GetRoleByNameQuery query) {
-        return roleRepository.findByName(query.name());
+        return roleRegistry.find(query.name());
     }
 }
@@ -1,15 +1,28 @@
 package com.levelupjourney.microserviceiam.iam.application.internal.queryservices;
 
 import com.levelupjourney.microserviceiam.iam.domain.model.aggregates.User;
+import com.levelupjourney.microserviceiam.iam.domain.model.queries.ExportUsersQuery;
 import com.levelupjourney.microserviceiam.iam.domain.model.queries.GetAllUsersQuery;
-import com.levelupjourney.microserviceiam.iam.domain.model.queries.GetUserByIdQuery;
 import com.levelupjourney.microserviceiam.iam.domain.model.queries.GetUserByEmailQuery;
+import com.levelupjourney.microserviceiam.iam.domain.model.queries.GetUserSummaryByEmailQuery;
+import com.levelupjourney.microserviceiam.iam.domain.model.queries.GetUserSummaryByIdQuery;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.RoleMask;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserExport;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserExportRow;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserPage;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserPageCursor;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserSummary;
 import com.levelupjourney.microserviceiam.iam.domain.services.UserQueryService;
 import com.levelupjourney.microserviceiam.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+import com.levelupjourney.microserviceiam.iam.infrastructure.persistence.jpa.repositories.UserSpecifications;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Implementation of {@link UserQueryService} interface.
@@ -29,24 +42,45 @@ public class UserQueryServiceImpl implements UserQueryService {
 
     /**
      * This method is used to handle {@link GetAllUsersQuery} query.
+     * It reads one user more than the limit to know if there is a next page, without counting the users,
+     * and reads the user summaries only, without loading the users.
      * @param query {@link GetAllUsersQuery} instance.
-     * @return {@link List} of {@link User} instances.
+     * @return {@link UserPage} of {@link UserSummary} instances.
      * @see GetAllUsersQuery
      */
     @Override
-    public List<User> handle(GetAllUsersQuery query) {
-        return userRepository.findAll();
+    public UserPage handle(GetAllUsersQuery query) {
+        List<Specification<User>> filters = new ArrayList<>();
+        if (query.role() != null) filters.add(UserSpecifications.hasRole(query.role()));
+        if (query.createdFrom() != null) filters.add(UserSpecifications.createdFrom(query.createdFrom()));
+        if (query.createdTo() != null) filters.add(UserSpecifications.createdBefore(query.createdTo()));
+        if (query.after() != null) filters.add(UserSpecifications.after(query.after()));
+
+        var users = userRepository.findSummaries(Specification.allOf(filters), UserSpecifications.KEYSET_ORDER, query.limit() + 1);
+        if (users.size() <= query.limit()) {
+            return new UserPage(users, null);
+        }
+        var page = users.subList(0, query.limit());
+        var last = page.get(page.size() - 1);
+        return new UserPage(page, new UserPageCursor(last.createdAt().toInstant(), last.id()));
     }
 
     /**
-     * This method is used to handle {@link GetUserByIdQuery} query.
-     * @param query {@link GetUserByIdQuery} instance.
-     * @return {@link Optional} of {@link User} instance.
-     * @see GetUserByIdQuery
+     * This method is used to handle {@link ExportUsersQuery} query.
+     * @param query {@link ExportUsersQuery} instance.
+     * @param consumer the consumer of each {@link UserExport}.
+     * @see ExportUsersQuery
      */
     @Override
-    public Optional<User> handle(GetUserByIdQuery query) {
-        return userRepository.findById(query.userId());
+    @Transactional(readOnly = true)
+    public void handle(ExportUsersQuery query, Consumer<UserExport> consumer) {
+        try (var rows = userRepository.streamUserExportRows()) {
+            rows.forEach(row -> consumer.accept(toUserExport(row)));
+        }
+    }
+
+    private static UserExport toUserExport(UserExportRow row) {
+        return new UserExport(row.id(), row.email(), row.createdAt().toInstant(), RoleMask.roles(row.roleMask()));
     }
 
     /**
@@ -59,4 +93,26 @@ public class UserQueryServiceImpl implements UserQueryService {
     public Optional<User> handle(GetUserByEmailQuery query) {
         return userRepository.findByEmail(query.email());
     }
+
+    /**
+     * This method is used to handle {@link GetUserSummaryByIdQuery} query.
+     * @param query {@link GetUserSummaryByIdQuery} instance.
+     * @return {@link Optional} of {@link UserSummary} instance.
+     * @see GetUserSummaryByIdQuery
+     */
+    @Override
+    public Optional<UserSummary> handle(GetUserSummaryByIdQuery query) {
+        return userRepository.findSummaryById(query.userId());
+    }
+
+    /**
+     * This method is used to handle {@link GetUserSummaryByEmailQuery} query.
+     * @param query {@link GetUserSummaryByEmailQuery} instance.
+     * @return {@link Optional} of {@link UserSummary} instance.
+     * @see GetUserSummaryByEmailQuery
+     */
+    @Override
+    public Optional<UserSummary> handle(GetUserSummaryByEmailQuery query) {
+        return userRepository.findSummaryByEmail(query.email());
+    }
 }
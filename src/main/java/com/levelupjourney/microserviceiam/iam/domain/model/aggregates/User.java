@@ -2,11 +2,15 @@ package com.levelupjourney.microserviceiam.iam.domain.model.aggregates;
 
 import com.levelupjourney.microserviceiam.iam.domain.model.entities.Role;
 import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.EmailAddress;
-import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.Password;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.HashedPassword;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.RoleMask;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.Roles;
 import com.levelupjourney.microserviceiam.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.HashSet;
 import java.util.List;
@@ -15,6 +19,11 @@ import java.util.Set;
 /**
  * User aggregate root
  * This class represents the aggregate root for the User entity.
+ * <p>
+ *     The roles of the user are read from the role mask stored in the user row, so loading a user does not read
+ *     the user_roles join table. The join table is still written, for the role filter of the user listing,
+ *     and the mask is updated with it whenever a role is added.
+ * </p>
  *
  * @see AuditableAbstractAggregateRoot
  */
@@ -26,27 +35,43 @@ public class User extends AuditableAbstractAggregateRoot<User> {
 
     @Embedded
     @AttributeOverrides({
-            @AttributeOverride(name = "email", column = @Column(name = "email_address", unique = true))})
+            @AttributeOverride(name = "email", column = @Column(name = "email_address", unique = true)),
+            @AttributeOverride(name = "normalized", column = @Column(name = "email_normalized", nullable = false, unique = true))})
     private EmailAddress emailAddress;
 
     @Embedded
     @AttributeOverrides({
             @AttributeOverride(name = "password", column = @Column(name = "password"))})
-    private Password userPassword;
+    private HashedPassword userPassword;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany(fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @JoinTable(	name = "user_roles",
                 joinColumns = @JoinColumn(name = "user_id"),
                 inverseJoinColumns = @JoinColumn(name = "role_id"))
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
     private Set<Role> roles;
 
+    @Column(name = "role_mask", nullable = false)
+    @Setter(AccessLevel.NONE)
+    private short roleMask;
+
+    @Column(name = "token_version", nullable = false, columnDefinition = "integer default 0")
+    private int tokenVersion;
+
     public User() {
         this.roles = new HashSet<>();
     }
     
+    /**
+     * Create a user
+     * @param email the email
+     * @param password the password hash; the raw password must have been validated before hashing
+     */
     public User(String email, String password) {
         this.emailAddress = new EmailAddress(email);
-        this.userPassword = new Password(password);
+        this.userPassword = new HashedPassword(password);
         this.roles = new HashSet<>();
     }
 
@@ -62,6 +87,7 @@ public class User extends AuditableAbstractAggregateRoot<User> {
      */
     public User addRole(Role role) {
         this.roles.add(role);
+        this.roleMask |= RoleMask.bit(role.getName());
         return this;
     }
 
@@ -72,10 +98,29 @@ public class User extends AuditableAbstractAggregateRoot<User> {
      */
     public User addRoles(List<Role> roles) {
         var validatedRoleSet = Role.validateRoleSet(roles);
-        this.roles.addAll(validatedRoleSet);
+        validatedRoleSet.forEach(this::addRole);
         return this;
     }
 
+    /**
+     * Get the roles of the user
+     * @return the roles decoded from the role mask, in the order of {@link Roles}
+     */
+    public Set<Roles> getRoles() {
+        return RoleMask.roles(this.roleMask);
+    }
+
+    /**
+     * Invalidate every token issued to the user
+     * <p>
+     *     Tokens carry the token version they were issued with, so bumping it invalidates them all at once.
+     * </p>
+     * @return the new token version
+     */
+    public int incrementTokenVersion() {
+        return ++this.tokenVersion;
+    }
+
     /**
      * Get email (for compatibility)
      * @return the normalized email
@@ -94,7 +139,7 @@ public class User extends AuditableAbstractAggregateRoot<User> {
 
     /**
      * Get password (for authentication)
-     * @return the password
+     * @return the password hash
      */
     public String getPassword() {
         return this.userPassword != null ? this.userPassword.password() : null;
@@ -102,10 +147,10 @@ public class User extends AuditableAbstractAggregateRoot<User> {
 
     /**
      * Set password
-     * @param password the new password
+     * @param password the new password hash
      */
     public void setPassword(String password) {
-        this.userPassword = new Password(password);
+        this.userPassword = new HashedPassword(password);
     }
 
     /**
@@ -116,12 +161,4 @@ public class User extends AuditableAbstractAggregateRoot<User> {
         return this.emailAddress;
     }
 
-    /**
-     * Get password strength score
-     * @return password strength score (1-5)
-     */
-    public int getPasswordStrength() {
-        return this.userPassword != null ? this.userPassword.getStrengthScore() : 0;
-    }
-
 }
@@ -0,0 +1,12 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.commands;
+
+/**
+ * Refresh token command
+ * <p>
+ *     This class represents the command to exchange a refresh token for a new token pair.
+ *     The refresh token is consumed and cannot be used again.
+ * </p>
+ * @param refreshToken the refresh token
+ */
+public record RefreshTokenCommand(String refreshToken) {
+}
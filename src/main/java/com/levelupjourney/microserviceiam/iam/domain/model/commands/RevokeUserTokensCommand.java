@@ -0,0 +1,14 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.commands;
+
+import java.util.UUID;
+
+/**
+ * Revoke user tokens command
+ * <p>
+ *     This class represents the command to invalidate every access and refresh token issued to a user,
+ *     for example after a role change or a compromised account.
+ * </p>
+ * @param userId the id of the user
+ */
+public record RevokeUserTokensCommand(UUID userId) {
+}
@@ -0,0 +1,33 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Revoked token entity
+ * <p>
+ *     This entity records a refresh token that has been used or revoked, by its token id.
+ *     It is kept until the token expires, after which the token is rejected anyway and the row is deleted.
+ * </p>
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"))
+@Getter
+@NoArgsConstructor
+public class RevokedToken {
+    @Id
+    @Column(name = "token_id")
+    private UUID tokenId;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    public RevokedToken(UUID tokenId, Instant expiresAt) {
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,38 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Domain event representing the invalidation of every token of a user
+ * This event is published when the token version of a user is bumped,
+ * so every IAM instance rejects the tokens issued with an older version
+ *
+ * @author LevelUp Journey Team
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserTokensInvalidatedEvent {
+
+    /**
+     * Unique identifier of the user in IAM
+     */
+    private UUID userId;
+
+    /**
+     * New token version of the user
+     */
+    private int tokenVersion;
+
+    /**
+     * Timestamp when the invalidation occurred
+     */
+    private LocalDateTime invalidatedAt;
+}
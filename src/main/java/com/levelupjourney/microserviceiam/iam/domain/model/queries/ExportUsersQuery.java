@@ -0,0 +1,10 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.queries;
+
+/**
+ * Export users query
+ * <p>
+ *     This class represents the query to export every user in the system, in creation order.
+ * </p>
+ */
+public record ExportUsersQuery() {
+}
@@ -1,10 +1,25 @@
 package com.levelupjourney.microserviceiam.iam.domain.model.queries;
 
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.Roles;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserPageCursor;
+
+import java.time.Instant;
+
 /**
  * Get all users query
  * <p>
- *     This class represents the query to get all the users in the system.
+ *     This class represents the query to get a page of the users in the system, ordered by creation time.
  * </p>
+ * @param role the role the users must have, or null for every role
+ * @param createdFrom the inclusive lower bound of the creation time, or null
+ * @param createdTo the exclusive upper bound of the creation time, or null
+ * @param after the cursor of the page to get, or null for the first page
+ * @param limit the maximum number of users in the page
  */
-public record GetAllUsersQuery() {
+public record GetAllUsersQuery(Roles role, Instant createdFrom, Instant createdTo, UserPageCursor after, int limit) {
+    public GetAllUsersQuery {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+    }
 }
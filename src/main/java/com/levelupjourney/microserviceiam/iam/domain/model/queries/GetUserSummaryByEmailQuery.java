@@ -0,0 +1,11 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.queries;
+
+/**
+ * Get user summary by email query
+ * <p>
+ *     This class represents the query to get the summary of a user by its email.
+ * </p>
+ * @param email the email of the user
+ */
+public record GetUserSummaryByEmailQuery(String email) {
+}
@@ -0,0 +1,13 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.queries;
+
+import java.util.UUID;
+
+/**
+ * Get user summary by id query
+ * <p>
+ *     This class represents the query to get the summary of a user by its id.
+ * </p>
+ * @param userId the id of the user
+ */
+public record GetUserSummaryByIdQuery(UUID userId) {
+}
@@ -1,70 +1,136 @@
 package com.levelupjourney.microserviceiam.iam.domain.model.valueobjects;
 
 import jakarta.persistence.Embeddable;
-
-import java.util.regex.Pattern;
-
+import jakarta.persistence.Transient;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Email address
+ * <p>
+ *     This value object validates an email address in a single pass when it is created, and keeps the position of
+ *     the @ sign and the normalized (trimmed, lowercase) address, so they are computed once per instance.
+ *     The normalized address is stored next to the address and is the one users are looked up by, so addresses
+ *     that differ only by case or surrounding whitespace belong to the same user.
+ *     Addresses loaded from the database were validated when they were stored, so they are not validated again.
+ * </p>
+ */
 @Embeddable
-public record EmailAddress(String email) {
+public class EmailAddress {
 
-    // RFC 5322 compliant regex (simplified but comprehensive)
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(
-        "^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$"
-    );
-    
     private static final int MAX_LENGTH = 255;
     private static final int MAX_LOCAL_PART = 64; // part before @
     private static final int MAX_DOMAIN_PART = 253; // part after @
+    private static final int MIN_TOP_LEVEL_DOMAIN = 2;
+    private static final int MAX_TOP_LEVEL_DOMAIN = 7;
+
+    private String email;
+
+    private String normalized;
+
+    @Transient
+    private int atIndex = -1;
 
-    public EmailAddress {
-        validateEmail(email);
+    protected EmailAddress() {
     }
 
-    private static void validateEmail(String email) {
-        if (email == null || email.trim().isEmpty()) {
+    public EmailAddress(String email) {
+        this.email = email;
+        this.atIndex = validateEmail(email);
+        this.normalized = normalize(email);
+    }
+
+    /**
+     * Validate an email address.
+     * The address is trimmed and must match
+     * {@code ^[a-zA-Z0-9_+&*-]+(?:\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\.)+[a-zA-Z]{2,7}$},
+     * checked here in one pass without copying it.
+     * @param email the email address
+     * @return the index of the @ sign in the untrimmed address
+     */
+    private static int validateEmail(String email) {
+        if (email == null) {
+            throw new IllegalArgumentException("Email address cannot be null or empty");
+        }
+        int start = 0;
+        int end = email.length();
+        while (start < end && email.charAt(start) <= ' ') start++;
+        while (end > start && email.charAt(end - 1) <= ' ') end--;
+        if (start == end) {
             throw new IllegalArgumentException("Email address cannot be null or empty");
         }
 
-        String trimmedEmail = email.trim();
-        
-        if (trimmedEmail.length() > MAX_LENGTH) {
+        if (end - start > MAX_LENGTH) {
             throw new IllegalArgumentException("Email address cannot exceed " + MAX_LENGTH + " characters");
         }
 
-        if (!EMAIL_PATTERN.matcher(trimmedEmail).matches()) {
-            throw new IllegalArgumentException("Invalid email address format");
+        int at = -1;
+        int labelStart = start;
+        boolean labelAllLetters = true;
+        for (int i = start; i < end; i++) {
+            char c = email.charAt(i);
+            if (c == '@') {
+                if (at >= 0 || i == labelStart) throw invalidFormat();
+                at = i;
+                labelStart = i + 1;
+            } else if (c == '.') {
+                if (i == labelStart) throw invalidFormat();
+                labelStart = i + 1;
+                labelAllLetters = true;
+            } else if (isAsciiLetter(c) || (c >= '0' && c <= '9') || c == '-') {
+                labelAllLetters &= isAsciiLetter(c);
+            } else if (at < 0 && (c == '_' || c == '+' || c == '&' || c == '*')) {
+                // Allowed in the local part only
+            } else {
+                throw invalidFormat();
+            }
         }
-
-        // Additional RFC 5322 validations
-        String[] parts = trimmedEmail.split("@");
-        if (parts.length != 2) {
-            throw new IllegalArgumentException("Email must contain exactly one @ symbol");
+        // The domain needs at least two labels, the last of which is the top level domain
+        int topLevelDomain = end - labelStart;
+        if (at < 0 || labelStart == at + 1 || !labelAllLetters
+                || topLevelDomain < MIN_TOP_LEVEL_DOMAIN || topLevelDomain > MAX_TOP_LEVEL_DOMAIN) {
+            throw invalidFormat();
         }
 
-        String localPart = parts[0];
-        String domainPart = parts[1];
-
-        if (localPart.length() > MAX_LOCAL_PART) {
+        if (at - start > MAX_LOCAL_PART) {
             throw new IllegalArgumentException("Email local part cannot exceed " + MAX_LOCAL_PART + " characters");
         }
 
-        if (domainPart.length() > MAX_DOMAIN_PART) {
+        if (end - at - 1 > MAX_DOMAIN_PART) {
             throw new IllegalArgumentException("Email domain part cannot exceed " + MAX_DOMAIN_PART + " characters");
         }
+        return at;
+    }
 
-        // Check for consecutive dots
-        if (localPart.contains("..") || domainPart.contains("..")) {
-            throw new IllegalArgumentException("Email cannot contain consecutive dots");
-        }
+    private static IllegalArgumentException invalidFormat() {
+        return new IllegalArgumentException("Invalid email address format");
+    }
 
-        // Check for starting/ending dots
-        if (localPart.startsWith(".") || localPart.endsWith(".")) {
-            throw new IllegalArgumentException("Email local part cannot start or end with a dot");
-        }
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
 
-        if (domainPart.startsWith(".") || domainPart.endsWith(".")) {
-            throw new IllegalArgumentException("Email domain part cannot start or end with a dot");
+    /**
+     * Normalize an email address, returning the same instance when it is already trimmed and lowercase.
+     */
+    private static String normalize(String email) {
+        if (email == null) return null;
+        var trimmed = email.trim();
+        for (int i = 0; i < trimmed.length(); i++) {
+            if (Character.isUpperCase(trimmed.charAt(i))) {
+                return trimmed.toLowerCase(Locale.ROOT);
+            }
         }
+        return trimmed;
+    }
+
+    /**
+     * Get the email address as it was entered
+     * @return email address
+     */
+    public String email() {
+        return email;
     }
 
     /**
@@ -72,7 +138,7 @@ public record EmailAddress(String email) {
      * @return normalized email address
      */
     public String normalized() {
-        return email != null ? email.trim().toLowerCase() : null;
+        return normalized;
     }
 
     /**
@@ -81,8 +147,8 @@ public record EmailAddress(String email) {
      */
     public String getLocalPart() {
         if (email == null) return null;
-        String[] parts = email.split("@");
-        return parts.length > 0 ? parts[0] : null;
+        int at = atIndex();
+        return at >= 0 ? email.substring(0, at) : email;
     }
 
     /**
@@ -91,7 +157,31 @@ public record EmailAddress(String email) {
      */
     public String getDomainPart() {
         if (email == null) return null;
-        String[] parts = email.split("@");
-        return parts.length > 1 ? parts[1] : null;
+        int at = atIndex();
+        return at >= 0 && at + 1 < email.length() ? email.substring(at + 1) : null;
+    }
+
+    private int atIndex() {
+        int current = atIndex;
+        if (current < 0) {
+            current = email.indexOf('@');
+            atIndex = current;
+        }
+        return current;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof EmailAddress that && Objects.equals(email, that.email);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(email);
+    }
+
+    @Override
+    public String toString() {
+        return "EmailAddress[email=" + email + "]";
     }
-}
\ No newline at end of file
+}
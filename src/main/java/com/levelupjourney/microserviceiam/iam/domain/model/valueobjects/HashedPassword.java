@@ -0,0 +1,15 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.valueobjects;
+
+import jakarta.persistence.Embeddable;
+
+/**
+ * Hashed password
+ * <p>
+ *     This record holds the stored hash of a user password. The raw password was already validated
+ *     by {@link Password} before hashing, so the hash is never validated again when a user is loaded.
+ * </p>
+ * @param password the password hash, prefixed with the id of its hashing algorithm
+ */
+@Embeddable
+public record HashedPassword(String password) {
+}
@@ -1,30 +1,74 @@
 package com.levelupjourney.microserviceiam.iam.domain.model.valueobjects;
 
-import jakarta.persistence.Embeddable;
-
-import java.util.regex.Pattern;
-
-@Embeddable
+import java.security.SecureRandom;
+
+/**
+ * Password
+ * <p>
+ *     This record holds a raw password and validates it against the password policy when it is created.
+ *     It is only used before hashing; the stored hash is held by {@link HashedPassword}.
+ * </p>
+ * @param password the raw password
+ */
 public record Password(String password) {
 
     private static final int MIN_LENGTH = 8;
     private static final int MAX_LENGTH = 128;
+    private static final int GENERATED_LENGTH = 32;
+
+    private static final String LOWERCASE = "abcdefghijklmnopqrstuvwxyz";
+    private static final String UPPERCASE = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final String DIGITS = "0123456789";
+    private static final String SPECIAL = "!@#$%^&*()_+-=[]{};':\"\\|,.<>/?";
+    private static final String ALL_CHARACTERS = LOWERCASE + UPPERCASE + DIGITS + SPECIAL;
+    private static final SecureRandom RANDOM = new SecureRandom();
     
-    // At least one lowercase letter
-    private static final Pattern HAS_LOWERCASE = Pattern.compile(".*[a-z].*");
-    // At least one uppercase letter  
-    private static final Pattern HAS_UPPERCASE = Pattern.compile(".*[A-Z].*");
-    // At least one digit
-    private static final Pattern HAS_DIGIT = Pattern.compile(".*[0-9].*");
-    // At least one special character
-    private static final Pattern HAS_SPECIAL = Pattern.compile(".*[!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>\\/?].*");
-    // No common weak patterns
-    private static final Pattern NO_SEQUENTIAL = Pattern.compile("^(?!.*(?:012|123|234|345|456|567|678|789|890|abc|bcd|cde|def|efg|fgh|ghi|hij|ijk|jkl|klm|lmn|mno|nop|opq|pqr|qrs|rst|stu|tuv|uvw|vwx|wxy|xyz)).*$");
+    private static final int MAX_CONSECUTIVE_IDENTICAL = 3;
+    private static final char CAPITAL_I_WITH_DOT_ABOVE = '\u0130';
+    private static final char COMBINING_DOT_ABOVE = '\u0307';
+
+    private static final WeakPasswordMatcher WEAK_PASSWORDS = new WeakPasswordMatcher(
+            "password", "123456789", "qwerty", "admin", "letmein",
+            "welcome", "monkey", "dragon", "master", "shadow",
+            "password123", "admin123", "qwerty123");
+
+    // Character traits collected in a single pass over the password
+    private static final int HAS_LOWERCASE = 1;
+    private static final int HAS_UPPERCASE = 1 << 1;
+    private static final int HAS_DIGIT = 1 << 2;
+    private static final int HAS_SPECIAL = 1 << 3;
+    private static final int HAS_SEQUENTIAL = 1 << 4;
+    private static final int HAS_WEAK_PATTERN = 1 << 5;
+    private static final int HAS_REPEATED = 1 << 6;
+    private static final int HAS_LINE_TERMINATOR = 1 << 7;
 
     public Password {
         validatePassword(password);
     }
 
+    /**
+     * Generate a random password that satisfies the password policy.
+     * It is used for accounts that never sign in with a password, such as OAuth2 accounts.
+     * @return a random password
+     */
+    public static Password generate() {
+        while (true) {
+            var candidate = new StringBuilder(GENERATED_LENGTH);
+            candidate.append(LOWERCASE.charAt(RANDOM.nextInt(LOWERCASE.length())));
+            candidate.append(UPPERCASE.charAt(RANDOM.nextInt(UPPERCASE.length())));
+            candidate.append(DIGITS.charAt(RANDOM.nextInt(DIGITS.length())));
+            candidate.append(SPECIAL.charAt(RANDOM.nextInt(SPECIAL.length())));
+            while (candidate.length() < GENERATED_LENGTH) {
+                candidate.append(ALL_CHARACTERS.charAt(RANDOM.nextInt(ALL_CHARACTERS.length())));
+            }
+            try {
+                return new Password(candidate.toString());
+            } catch (IllegalArgumentException e) {
+                // The random characters formed a sequence, a repetition or a weak word; try again
+            }
+        }
+    }
+
     private static void validatePassword(String password) {
         if (password == null || password.isEmpty()) {
             throw new IllegalArgumentException("Password cannot be null or empty");
@@ -38,59 +82,115 @@ public record Password(String password) {
             throw new IllegalArgumentException("Password cannot exceed " + MAX_LENGTH + " characters");
         }
 
-        // Check for at least one lowercase letter
-        if (!HAS_LOWERCASE.matcher(password).matches()) {
+        int traits = classify(password);
+
+        if (!hasCharacterClass(traits, HAS_LOWERCASE)) {
             throw new IllegalArgumentException("Password must contain at least one lowercase letter");
         }
 
-        // Check for at least one uppercase letter
-        if (!HAS_UPPERCASE.matcher(password).matches()) {
+        if (!hasCharacterClass(traits, HAS_UPPERCASE)) {
             throw new IllegalArgumentException("Password must contain at least one uppercase letter");
         }
 
-        // Check for at least one digit
-        if (!HAS_DIGIT.matcher(password).matches()) {
+        if (!hasCharacterClass(traits, HAS_DIGIT)) {
             throw new IllegalArgumentException("Password must contain at least one digit");
         }
 
-        // Check for at least one special character
-        if (!HAS_SPECIAL.matcher(password).matches()) {
+        if (!hasCharacterClass(traits, HAS_SPECIAL)) {
             throw new IllegalArgumentException("Password must contain at least one special character (!@#$%^&*()_+-=[]{}|;':\"\\,.<>?/)");
         }
 
-        // Check for no sequential patterns
-        if (!NO_SEQUENTIAL.matcher(password.toLowerCase()).matches()) {
+        if ((traits & HAS_SEQUENTIAL) != 0) {
             throw new IllegalArgumentException("Password cannot contain sequential characters (123, abc, etc.)");
         }
 
-        // Check for common weak passwords
-        String lowerPassword = password.toLowerCase();
-        String[] commonPasswords = {
-            "password", "123456789", "qwerty", "admin", "letmein", 
-            "welcome", "monkey", "dragon", "master", "shadow",
-            "password123", "admin123", "qwerty123"
-        };
-        
-        for (String weak : commonPasswords) {
-            if (lowerPassword.contains(weak)) {
-                throw new IllegalArgumentException("Password cannot contain common weak patterns");
-            }
+        if ((traits & HAS_WEAK_PATTERN) != 0) {
+            throw new IllegalArgumentException("Password cannot contain common weak patterns");
+        }
+
+        if ((traits & HAS_REPEATED) != 0) {
+            throw new IllegalArgumentException("Password cannot contain more than 3 consecutive identical characters");
         }
+    }
 
-        // Check for repeated characters (more than 3 consecutive)
-        for (int i = 0; i < password.length() - 3; i++) {
-            char current = password.charAt(i);
-            boolean hasRepeated = true;
-            for (int j = i + 1; j < i + 4 && j < password.length(); j++) {
-                if (password.charAt(j) != current) {
-                    hasRepeated = false;
-                    break;
-                }
+    /**
+     * Classify the characters of a password in a single pass.
+     * Sequences ("123", "abc", ..., "890") and weak words are detected case-insensitively,
+     * repeated characters case-sensitively.
+     * @param password the password
+     * @return the traits found in the password
+     */
+    private static int classify(String password) {
+        int traits = 0;
+        int weakState = WeakPasswordMatcher.ROOT;
+        char previousLower = 0;
+        int ascending = 0;
+        boolean wrapped = false;
+        int identical = 0;
+        for (int i = 0; i < password.length(); i++) {
+            char c = password.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                traits |= HAS_LOWERCASE;
+            } else if (c >= 'A' && c <= 'Z') {
+                traits |= HAS_UPPERCASE;
+            } else if (c >= '0' && c <= '9') {
+                traits |= HAS_DIGIT;
+            } else if (SPECIAL.indexOf(c) >= 0) {
+                traits |= HAS_SPECIAL;
+            } else if (isLineTerminator(c)) {
+                traits |= HAS_LINE_TERMINATOR;
+            }
+
+            identical = i > 0 && c == password.charAt(i - 1) ? identical + 1 : 1;
+            if (identical > MAX_CONSECUTIVE_IDENTICAL) {
+                traits |= HAS_REPEATED;
+            }
+
+            char lower = Character.toLowerCase(c);
+            if (i > 0 && isSequential(previousLower, lower)) {
+                // "890" is the only sequence that wraps around, so no sequence continues past it
+                ascending = wrapped ? 2 : ascending + 1;
+                wrapped = lower == '0';
+            } else {
+                ascending = 1;
+                wrapped = false;
+            }
+            if (ascending >= 3) {
+                traits |= HAS_SEQUENTIAL;
+            }
+            previousLower = lower;
+
+            weakState = WEAK_PASSWORDS.next(weakState, lower);
+            if (WEAK_PASSWORDS.matches(weakState)) {
+                traits |= HAS_WEAK_PATTERN;
             }
-            if (hasRepeated) {
-                throw new IllegalArgumentException("Password cannot contain more than 3 consecutive identical characters");
+
+            if (c == CAPITAL_I_WITH_DOT_ABOVE) {
+                // Lowercases to "i" followed by a combining dot above, which ends any sequence or weak word
+                previousLower = COMBINING_DOT_ABOVE;
+                weakState = WeakPasswordMatcher.ROOT;
             }
         }
+        return traits;
+    }
+
+    /**
+     * Check a character class trait.
+     * The policy used to be checked with {@code .*[a-z].*}-style patterns, whose dot never matches a line
+     * terminator, so a password with a line terminator never satisfies a character class check.
+     */
+    private static boolean hasCharacterClass(int traits, int characterClass) {
+        return (traits & characterClass) != 0 && (traits & HAS_LINE_TERMINATOR) == 0;
+    }
+
+    private static boolean isSequential(char previous, char current) {
+        if (previous >= 'a' && previous < 'z') return current == previous + 1;
+        if (previous >= '0' && previous < '9') return current == previous + 1;
+        return previous == '9' && current == '0';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
     }
 
     /**
@@ -107,10 +207,11 @@ public record Password(String password) {
         if (password.length() >= 12) score++;
         
         // Character variety
-        if (HAS_LOWERCASE.matcher(password).matches()) score++;
-        if (HAS_UPPERCASE.matcher(password).matches()) score++;
-        if (HAS_DIGIT.matcher(password).matches()) score++;
-        if (HAS_SPECIAL.matcher(password).matches()) score++;
+        int traits = classify(password);
+        if (hasCharacterClass(traits, HAS_LOWERCASE)) score++;
+        if (hasCharacterClass(traits, HAS_UPPERCASE)) score++;
+        if (hasCharacterClass(traits, HAS_DIGIT)) score++;
+        if (hasCharacterClass(traits, HAS_SPECIAL)) score++;
         
         return Math.min(score, 5);
     }
@@ -0,0 +1,17 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.valueobjects;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Refresh token claims
+ * <p>
+ *     This record holds the claims of a refresh token whose signature, expiration and type have already been verified.
+ * </p>
+ * @param subject the subject (email) of the token
+ * @param tokenId the unique id ({@code jti}) of the token, used to consume it only once
+ * @param expiresAt the instant the token expires
+ * @param tokenVersion the token version of the user when the token was issued, 0 when the token does not carry it
+ */
+public record RefreshTokenClaims(String subject, UUID tokenId, Instant expiresAt, int tokenVersion) {
+}
@@ -0,0 +1,86 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.valueobjects;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Role mask
+ * <p>
+ *     This class encodes a set of {@link Roles} as a bitmask, with one bit per role in declaration order, so the roles
+ *     of a user fit in a single column of the user row. Every possible mask is decoded once, when the class is loaded,
+ *     so decoding a mask is a table lookup that returns shared immutable values.
+ * </p>
+ * <p>
+ *     The bits are stored in the database: new roles must be added at the end of {@link Roles}.
+ * </p>
+ */
+public final class RoleMask {
+    private static final Roles[] ROLES = Roles.values();
+    private static final int ALL = (1 << ROLES.length) - 1;
+
+    private static final Set<Roles>[] ROLE_SETS;
+    private static final List<String>[] ROLE_NAMES;
+
+    static {
+        @SuppressWarnings("unchecked")
+        Set<Roles>[] roleSets = new Set[ALL + 1];
+        @SuppressWarnings("unchecked")
+        List<String>[] roleNames = new List[ALL + 1];
+        for (int mask = 0; mask <= ALL; mask++) {
+            var roles = EnumSet.noneOf(Roles.class);
+            for (Roles role : ROLES) {
+                if ((mask & bit(role)) != 0) roles.add(role);
+            }
+            roleSets[mask] = Collections.unmodifiableSet(roles);
+            roleNames[mask] = roles.stream().map(Roles::name).toList();
+        }
+        ROLE_SETS = roleSets;
+        ROLE_NAMES = roleNames;
+    }
+
+    private RoleMask() {
+    }
+
+    /**
+     * Get the bit of a role
+     * @param role the role
+     * @return the mask with only the bit of the role set
+     */
+    public static short bit(Roles role) {
+        return (short) (1 << role.ordinal());
+    }
+
+    /**
+     * Encode a collection of roles
+     * @param roles the roles
+     * @return the mask with the bit of each role set
+     */
+    public static short of(Collection<Roles> roles) {
+        int mask = 0;
+        for (Roles role : roles) {
+            mask |= bit(role);
+        }
+        return (short) mask;
+    }
+
+    /**
+     * Decode a mask
+     * @param mask the mask; bits that do not match a role are ignored
+     * @return the roles of the mask, in the order of {@link Roles}
+     */
+    public static Set<Roles> roles(short mask) {
+        return ROLE_SETS[mask & ALL];
+    }
+
+    /**
+     * Decode a mask into role names
+     * @param mask the mask; bits that do not match a role are ignored
+     * @return the names of the roles of the mask, in the order of {@link Roles}
+     */
+    public static List<String> names(short mask) {
+        return ROLE_NAMES[mask & ALL];
+    }
+}
@@ -0,0 +1,26 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.valueobjects;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * User credentials
+ * <p>
+ *     This record holds what signing in needs from a user: the password hash to check, and the claims of the tokens
+ *     to issue. It is read in a single query, without loading the user aggregate.
+ * </p>
+ * @param id the id of the user
+ * @param email the normalized email of the user
+ * @param password the password hash
+ * @param tokenVersion the current token version
+ * @param roleMask the {@link RoleMask} of the roles of the user
+ */
+public record UserCredentials(UUID id, String email, String password, int tokenVersion, short roleMask) {
+    /**
+     * Get the roles of the user
+     * @return the roles decoded from the role mask
+     */
+    public Set<Roles> roles() {
+        return RoleMask.roles(roleMask);
+    }
+}
@@ -0,0 +1,15 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.valueobjects;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * User export
+ * @param id the id of the user
+ * @param email the normalized email of the user
+ * @param createdAt the creation time of the user
+ * @param roles the roles of the user
+ */
+public record UserExport(UUID id, String email, Instant createdAt, Set<Roles> roles) {
+}
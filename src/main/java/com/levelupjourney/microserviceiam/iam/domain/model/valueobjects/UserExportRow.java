@@ -0,0 +1,17 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.valueobjects;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * User export row
+ * <p>
+ *     This record holds one user as read by the user export, with its roles as a {@link RoleMask}.
+ * </p>
+ * @param id the id of the user
+ * @param email the normalized email of the user
+ * @param createdAt the creation time of the user
+ * @param roleMask the role mask of the user
+ */
+public record UserExportRow(UUID id, String email, Date createdAt, short roleMask) {
+}
@@ -0,0 +1,11 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.valueobjects;
+
+import java.util.List;
+
+/**
+ * User page
+ * @param users the summaries of the users of the page, in (createdAt, id) order
+ * @param nextCursor the cursor of the next page, or null if this is the last page
+ */
+public record UserPage(List<UserSummary> users, UserPageCursor nextCursor) {
+}
@@ -0,0 +1,55 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.valueobjects;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * User page cursor
+ * <p>
+ *     This record marks the position after the last user of a page in the (createdAt, id) order,
+ *     so the next page starts right after it without counting or skipping rows.
+ *     It is exchanged with clients as an opaque token.
+ * </p>
+ * @param createdAt the creation time of the last user of the page
+ * @param id the id of the last user of the page
+ */
+public record UserPageCursor(Instant createdAt, UUID id) {
+    private static final char SEPARATOR = '|';
+
+    public UserPageCursor {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("Cursor creation time and id are required");
+        }
+    }
+
+    /**
+     * Encode the cursor as an opaque, URL-safe token
+     * @return the token
+     */
+    public String toToken() {
+        var value = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor from its token
+     * @param token the token
+     * @return the cursor
+     * @throws IllegalArgumentException if the token is not a valid cursor
+     */
+    public static UserPageCursor fromToken(String token) {
+        try {
+            var value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new UserPageCursor(Instant.parse(value.substring(0, separator)), UUID.fromString(value.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.valueobjects;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * User summary
+ * <p>
+ *     This record is the read model of a user used by listings and lookups. It is selected column by column,
+ *     so reading it neither loads the roles and credentials of the user nor keeps the user in the persistence context.
+ * </p>
+ * @param id the id of the user
+ * @param email the normalized email of the user
+ * @param createdAt the creation time of the user
+ */
+public record UserSummary(UUID id, String email, Date createdAt) {
+}
@@ -0,0 +1,14 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.valueobjects;
+
+import java.util.UUID;
+
+/**
+ * User token version
+ * <p>
+ *     This record holds the current token version of a user. Tokens issued with an older version are no longer valid.
+ * </p>
+ * @param userId the id of the user
+ * @param tokenVersion the current token version
+ */
+public record UserTokenVersion(UUID userId, int tokenVersion) {
+}
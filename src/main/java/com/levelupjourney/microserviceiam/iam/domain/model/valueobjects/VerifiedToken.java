@@ -0,0 +1,33 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.valueobjects;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Verified token
+ * <p>
+ *     This record holds the claims of a token whose signature and expiration have already been verified.
+ *     It is produced once per request and reused, so the token never has to be parsed again.
+ * </p>
+ * @param subject the subject (email) of the token
+ * @param userId the id of the user, or null when the token does not carry it
+ * @param roles the role names carried by the token, empty when the token does not carry them
+ * @param issuedAt the instant the token was issued
+ * @param expiresAt the instant the token expires
+ * @param tokenVersion the token version of the user when the token was issued, 0 when the token does not carry it
+ */
+public record VerifiedToken(String subject, UUID userId, List<String> roles, Instant issuedAt, Instant expiresAt, int tokenVersion) {
+
+    public VerifiedToken {
+        roles = roles != null ? List.copyOf(roles) : List.of();
+    }
+
+    /**
+     * Check if the token carries role claims
+     * @return true if the token carries at least one role, false otherwise
+     */
+    public boolean hasRoles() {
+        return !roles.isEmpty();
+    }
+}
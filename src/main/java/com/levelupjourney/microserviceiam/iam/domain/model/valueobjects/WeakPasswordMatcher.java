@@ -0,0 +1,102 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.valueobjects;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Weak password matcher
+ * <p>
+ *     This class is an Aho–Corasick automaton over the weak password words, compiled once into a
+ *     transition table so a password is matched against every word in a single pass without allocating.
+ *     The words and the input are ASCII lowercase; any other character moves the automaton back to its root.
+ * </p>
+ */
+final class WeakPasswordMatcher {
+    static final int ROOT = 0;
+    private static final int ALPHABET_SIZE = 128;
+
+    private final int[][] transitions;
+    private final boolean[] accepting;
+
+    WeakPasswordMatcher(String... words) {
+        List<int[]> gotoTable = new ArrayList<>();
+        List<Boolean> terminal = new ArrayList<>();
+        gotoTable.add(emptyRow());
+        terminal.add(false);
+        for (String word : words) {
+            int state = ROOT;
+            for (int i = 0; i < word.length(); i++) {
+                char c = word.charAt(i);
+                if (c >= ALPHABET_SIZE) {
+                    throw new IllegalArgumentException("Weak password words must be ASCII: " + word);
+                }
+                if (gotoTable.get(state)[c] < 0) {
+                    gotoTable.get(state)[c] = gotoTable.size();
+                    gotoTable.add(emptyRow());
+                    terminal.add(false);
+                }
+                state = gotoTable.get(state)[c];
+            }
+            terminal.set(state, true);
+        }
+
+        transitions = gotoTable.toArray(new int[0][]);
+        accepting = new boolean[transitions.length];
+        for (int state = 0; state < accepting.length; state++) {
+            accepting[state] = terminal.get(state);
+        }
+
+        // Breadth-first construction of the failure links, folded into the transition table
+        int[] failure = new int[transitions.length];
+        var queue = new ArrayDeque<Integer>();
+        for (int c = 0; c < ALPHABET_SIZE; c++) {
+            int next = transitions[ROOT][c];
+            if (next < 0) {
+                transitions[ROOT][c] = ROOT;
+            } else {
+                failure[next] = ROOT;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            accepting[state] |= accepting[failure[state]];
+            for (int c = 0; c < ALPHABET_SIZE; c++) {
+                int next = transitions[state][c];
+                if (next < 0) {
+                    transitions[state][c] = transitions[failure[state]][c];
+                } else {
+                    failure[next] = transitions[failure[state]][c];
+                    queue.add(next);
+                }
+            }
+        }
+    }
+
+    /**
+     * This method advances the automaton by one character.
+     * @param state The current state, starting at {@link #ROOT}.
+     * @param c The next lowercase character.
+     * @return The next state.
+     */
+    int next(int state, char c) {
+        return c < ALPHABET_SIZE ? transitions[state][c] : ROOT;
+    }
+
+    /**
+     * This method checks if a weak word ends at a state.
+     * @param state The state.
+     * @return True if a weak word has been matched.
+     */
+    boolean matches(int state) {
+        return accepting[state];
+    }
+
+    private static int[] emptyRow() {
+        var row = new int[ALPHABET_SIZE];
+        Arrays.fill(row, -1);
+        return row;
+    }
+}
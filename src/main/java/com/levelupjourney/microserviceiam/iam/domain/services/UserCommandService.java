@@ -1,9 +1,12 @@
 package com.levelupjourney.microserviceiam.iam.domain.services;
 
 import com.levelupjourney.microserviceiam.iam.domain.model.aggregates.User;
+import com.levelupjourney.microserviceiam.iam.domain.model.commands.RefreshTokenCommand;
+import com.levelupjourney.microserviceiam.iam.domain.model.commands.RevokeUserTokensCommand;
 import com.levelupjourney.microserviceiam.iam.domain.model.commands.SignInCommand;
 import com.levelupjourney.microserviceiam.iam.domain.model.commands.SignUpCommand;
 import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.TokenPair;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserCredentials;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 
 import java.util.Optional;
@@ -18,9 +21,9 @@ public interface UserCommandService {
     /**
      * Handle sign in command
      * @param command the {@link SignInCommand} command
-     * @return an {@link Optional} of {@link ImmutablePair} of {@link User} and {@link TokenPair}
+     * @return an {@link Optional} of {@link ImmutablePair} of {@link UserCredentials} and {@link TokenPair}
      */
-    Optional<ImmutablePair<User, TokenPair>> handle(SignInCommand command);
+    Optional<ImmutablePair<UserCredentials, TokenPair>> handle(SignInCommand command);
 
     /**
      * Handle sign up command
@@ -29,5 +32,18 @@ public interface UserCommandService {
      */
     Optional<User> handle(SignUpCommand command);
 
+    /**
+     * Handle refresh token command
+     * @param command the {@link RefreshTokenCommand} command
+     * @return an {@link Optional} of {@link ImmutablePair} of {@link User} and the new {@link TokenPair}
+     */
+    Optional<ImmutablePair<User, TokenPair>> handle(RefreshTokenCommand command);
+
+    /**
+     * Handle revoke user tokens command
+     * @param command the {@link RevokeUserTokensCommand} command
+     * @return an {@link Optional} of {@link User} entity
+     */
+    Optional<User> handle(RevokeUserTokensCommand command);
 
 }
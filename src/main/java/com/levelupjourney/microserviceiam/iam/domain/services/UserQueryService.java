@@ -1,12 +1,17 @@
 package com.levelupjourney.microserviceiam.iam.domain.services;
 
 import com.levelupjourney.microserviceiam.iam.domain.model.aggregates.User;
+import com.levelupjourney.microserviceiam.iam.domain.model.queries.ExportUsersQuery;
 import com.levelupjourney.microserviceiam.iam.domain.model.queries.GetAllUsersQuery;
-import com.levelupjourney.microserviceiam.iam.domain.model.queries.GetUserByIdQuery;
 import com.levelupjourney.microserviceiam.iam.domain.model.queries.GetUserByEmailQuery;
+import com.levelupjourney.microserviceiam.iam.domain.model.queries.GetUserSummaryByEmailQuery;
+import com.levelupjourney.microserviceiam.iam.domain.model.queries.GetUserSummaryByIdQuery;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserExport;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserPage;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserSummary;
 
-import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * User query service
@@ -18,16 +23,20 @@ public interface UserQueryService {
     /**
      * Handle get all users query
      * @param query the {@link GetAllUsersQuery} query
-     * @return a list of {@link User} entities
+     * @return a {@link UserPage} with at most the query limit of {@link UserSummary} projections
      */
-    List<User> handle(GetAllUsersQuery query);
+    UserPage handle(GetAllUsersQuery query);
 
     /**
-     * Handle get user by id query
-     * @param query the {@link GetUserByIdQuery} query
-     * @return an {@link Optional} of {@link User} entity
+     * Handle export users query
+     * <p>
+     *     The users are read through a database cursor and handed to the consumer one at a time,
+     *     so the memory used does not depend on the number of users.
+     * </p>
+     * @param query the {@link ExportUsersQuery} query
+     * @param consumer the consumer of each {@link UserExport}, in creation order
      */
-    Optional<User> handle(GetUserByIdQuery query);
+    void handle(ExportUsersQuery query, Consumer<UserExport> consumer);
 
     /**
      * Handle get user by email query
@@ -36,4 +45,18 @@ public interface UserQueryService {
      */
     Optional<User> handle(GetUserByEmailQuery query);
 
+    /**
+     * Handle get user summary by id query
+     * @param query the {@link GetUserSummaryByIdQuery} query
+     * @return an {@link Optional} of {@link UserSummary} projection
+     */
+    Optional<UserSummary> handle(GetUserSummaryByIdQuery query);
+
+    /**
+     * Handle get user summary by email query
+     * @param query the {@link GetUserSummaryByEmailQuery} query
+     * @return an {@link Optional} of {@link UserSummary} projection
+     */
+    Optional<UserSummary> handle(GetUserSummaryByEmailQuery query);
+
 }
@@ -1,15 +1,20 @@
 package com.levelupjourney.microserviceiam.iam.infrastructure.authorization.sfs.configuration;
 
+import com.levelupjourney.microserviceiam.iam.infrastructure.authorization.sfs.pipeline.BearerAuthenticationMode;
 import com.levelupjourney.microserviceiam.iam.infrastructure.authorization.sfs.pipeline.BearerAuthorizationRequestFilter;
-import com.levelupjourney.microserviceiam.iam.infrastructure.hashing.bcrypt.BCryptHashingService;
+import com.levelupjourney.microserviceiam.iam.infrastructure.authorization.sfs.pipeline.BearerTokenAuthenticationCache;
+import com.levelupjourney.microserviceiam.iam.infrastructure.hashing.password.PasswordHashingService;
 import com.levelupjourney.microserviceiam.iam.infrastructure.configuration.FrontendConfigurationProperties;
 import com.levelupjourney.microserviceiam.iam.infrastructure.oauth2.OAuth2AuthenticationSuccessHandler;
 import com.levelupjourney.microserviceiam.iam.infrastructure.oauth2.OAuth2AuthenticationFailureHandler;
 import com.levelupjourney.microserviceiam.iam.infrastructure.oauth2.HttpCookieOAuth2AuthorizationRequestRepository;
 import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.BearerTokenService;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -41,7 +46,7 @@ public class WebSecurityConfiguration {
 
     private final BearerTokenService tokenService;
 
-    private final BCryptHashingService hashingService;
+    private final PasswordHashingService hashingService;
 
     private final AuthenticationEntryPoint unauthorizedRequestHandler;
 
@@ -52,6 +57,11 @@ public class WebSecurityConfiguration {
     private final HttpCookieOAuth2AuthorizationRequestRepository httpCookieOAuth2AuthorizationRequestRepository;
     private final FrontendConfigurationProperties frontendConfigurationProperties;
 
+    private final BearerTokenAuthenticationCache authenticationCache;
+
+    @Value("${app.jwt.authentication-mode:DATABASE}")
+    private BearerAuthenticationMode authenticationMode;
+
     /**
      * This method creates the Bearer Authorization Request Filter.
      * @return The Bearer Authorization Request Filter
@@ -59,7 +69,7 @@ public class WebSecurityConfiguration {
      */
     @Bean
     public BearerAuthorizationRequestFilter authorizationRequestFilter() {
-        return new BearerAuthorizationRequestFilter(tokenService, userDetailsService);
+        return new BearerAuthorizationRequestFilter(tokenService, userDetailsService, authenticationMode, authenticationCache);
     }
 
     /**
@@ -107,16 +117,21 @@ public class WebSecurityConfiguration {
             cors.setAllowedOrigins(frontendConfigurationProperties.getAllowedOrigins());
             cors.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
             cors.setAllowedHeaders(List.of("*"));
+            cors.setExposedHeaders(List.of("refresh_token", HttpHeaders.LINK));
             return cors;
         }));
         http.csrf(csrfConfigurer -> csrfConfigurer.disable())
                 .exceptionHandling(exceptionHandling -> exceptionHandling.authenticationEntryPoint(unauthorizedRequestHandler))
                 .sessionManagement( customizer -> customizer.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorizeRequests -> authorizeRequests
+                        // Token checks need an authenticated caller, so tokens cannot be probed anonymously (RFC 7662 section 2.1)
+                        .requestMatchers(HttpMethod.POST, "/oauth2/introspect").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/api/v1/authentication/validate/batch").authenticated()
                         .requestMatchers(
                                 "/",
                                 "/api/v1/authentication/**",
                                 "/oauth2/**",
+                                "/.well-known/jwks.json",
                                 "/api/v1/iam/health/**",
                                 "/login/oauth2/**",
                                 "/v3/api-docs/**",
@@ -146,15 +161,17 @@ public class WebSecurityConfiguration {
      * @param authenticationEntryPoint The authentication entry point
      * @param oauth2AuthenticationSuccessHandler The OAuth2 success handler
      * @param oauth2AuthenticationFailureHandler The OAuth2 failure handler
+     * @param authenticationCache The bearer token authentication cache
      */
     public WebSecurityConfiguration(@Qualifier("defaultUserDetailsService") UserDetailsService userDetailsService, 
                                    BearerTokenService tokenService, 
-                                   BCryptHashingService hashingService, 
+                                   PasswordHashingService hashingService, 
                                    AuthenticationEntryPoint authenticationEntryPoint,
                                    OAuth2AuthenticationSuccessHandler oauth2AuthenticationSuccessHandler,
                                    OAuth2AuthenticationFailureHandler oauth2AuthenticationFailureHandler,
                                    HttpCookieOAuth2AuthorizationRequestRepository httpCookieOAuth2AuthorizationRequestRepository,
-                                   FrontendConfigurationProperties frontendConfigurationProperties) {
+                                   FrontendConfigurationProperties frontendConfigurationProperties,
+                                   BearerTokenAuthenticationCache authenticationCache) {
         this.userDetailsService = userDetailsService;
         this.tokenService = tokenService;
         this.hashingService = hashingService;
@@ -163,5 +180,6 @@ public class WebSecurityConfiguration {
         this.oauth2AuthenticationFailureHandler = oauth2AuthenticationFailureHandler;
         this.httpCookieOAuth2AuthorizationRequestRepository = httpCookieOAuth2AuthorizationRequestRepository;
         this.frontendConfigurationProperties = frontendConfigurationProperties;
+        this.authenticationCache = authenticationCache;
     }
 }
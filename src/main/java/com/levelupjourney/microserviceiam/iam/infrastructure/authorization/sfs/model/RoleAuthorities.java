@@ -0,0 +1,76 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.authorization.sfs.model;
+
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.RoleMask;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.Roles;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class holds one interned {@link GrantedAuthority} per {@link Roles} value, and the list of authorities of every
+ * {@link RoleMask}.
+ * It is used to build the authorities of a principal without allocating a new authority per request.
+ */
+public final class RoleAuthorities {
+
+    private static final Map<Roles, GrantedAuthority> AUTHORITIES = new EnumMap<>(Roles.class);
+    @SuppressWarnings("unchecked")
+    private static final List<GrantedAuthority>[] MASK_AUTHORITIES = new List[1 << Roles.values().length];
+
+    static {
+        for (Roles role : Roles.values()) {
+            AUTHORITIES.put(role, new SimpleGrantedAuthority(role.name()));
+        }
+        for (int mask = 0; mask < MASK_AUTHORITIES.length; mask++) {
+            MASK_AUTHORITIES[mask] = RoleMask.roles((short) mask).stream().map(AUTHORITIES::get).toList();
+        }
+    }
+
+    private RoleAuthorities() {
+    }
+
+    /**
+     * This method returns the interned authority of a role.
+     * @param role The role.
+     * @return The granted authority.
+     */
+    public static GrantedAuthority of(Roles role) {
+        return AUTHORITIES.get(role);
+    }
+
+    /**
+     * This method returns the authorities of a role mask.
+     * @param roleMask The role mask.
+     * @return The granted authorities, shared between every principal with the same roles.
+     */
+    public static List<GrantedAuthority> of(short roleMask) {
+        return MASK_AUTHORITIES[roleMask & (MASK_AUTHORITIES.length - 1)];
+    }
+
+    /**
+     * This method returns the authorities of a collection of role names.
+     * Names that do not match a {@link Roles} value are kept as plain authorities.
+     * @param roleNames The role names.
+     * @return The granted authorities.
+     */
+    public static List<GrantedAuthority> fromNames(Collection<String> roleNames) {
+        var authorities = new ArrayList<GrantedAuthority>(roleNames.size());
+        for (String roleName : roleNames) {
+            authorities.add(fromName(roleName));
+        }
+        return List.copyOf(authorities);
+    }
+
+    private static GrantedAuthority fromName(String roleName) {
+        try {
+            return of(Roles.valueOf(roleName));
+        } catch (IllegalArgumentException e) {
+            return new SimpleGrantedAuthority(roleName);
+        }
+    }
+}
@@ -1,15 +1,14 @@
 package com.levelupjourney.microserviceiam.iam.infrastructure.authorization.sfs.model;
 
 import com.levelupjourney.microserviceiam.iam.domain.model.aggregates.User;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.VerifiedToken;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.stream.Collectors;
 
 /**
  * This class is responsible for providing the user details to the Spring Security framework.
@@ -46,18 +45,28 @@ public class UserDetailsImpl implements UserDetails {
 
     /**
      * This method is responsible for building the UserDetailsImpl object from the User object.
+     * The authorities are looked up by the role mask of the user, so the roles are not loaded.
      * @param user The user object.
      * @return The UserDetailsImpl object.
      */
     public static UserDetailsImpl build(User user) {
-        var authorities = user.getRoles().stream()
-                .map(role -> role.getName().name())
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
         return new UserDetailsImpl(
                 user.getEmail(),
                 user.getPassword(),
-                authorities);
+                RoleAuthorities.of(user.getRoleMask()));
+    }
+
+    /**
+     * This method is responsible for building the UserDetailsImpl object from the claims of a verified token.
+     * The password is not available in the token, so it is left null.
+     * @param verifiedToken The verified token.
+     * @return The UserDetailsImpl object.
+     */
+    public static UserDetailsImpl build(VerifiedToken verifiedToken) {
+        return new UserDetailsImpl(
+                verifiedToken.subject(),
+                null,
+                RoleAuthorities.fromNames(verifiedToken.roles()));
     }
 
 }
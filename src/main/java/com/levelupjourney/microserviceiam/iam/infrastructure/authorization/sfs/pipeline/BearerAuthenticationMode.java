@@ -0,0 +1,20 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.authorization.sfs.pipeline;
+
+/**
+ * Bearer Authentication Mode.
+ * <p>
+ * This enum defines how the {@link BearerAuthorizationRequestFilter} builds the principal of a verified token.
+ * </p>
+ */
+public enum BearerAuthenticationMode {
+    /**
+     * The principal is built from the verified token claims.
+     * The user details are only loaded from the database when the token carries no role claims.
+     */
+    CLAIMS,
+    /**
+     * The principal is always loaded from the database through the user details service.
+     * This is the default, so changes to the roles of a user apply before their tokens expire.
+     */
+    DATABASE
+}
@@ -1,5 +1,7 @@
 package com.levelupjourney.microserviceiam.iam.infrastructure.authorization.sfs.pipeline;
 
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.VerifiedToken;
+import com.levelupjourney.microserviceiam.iam.infrastructure.authorization.sfs.model.UserDetailsImpl;
 import com.levelupjourney.microserviceiam.iam.infrastructure.authorization.sfs.model.UsernamePasswordAuthenticationTokenBuilder;
 import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.BearerTokenService;
 import jakarta.servlet.FilterChain;
@@ -11,10 +13,12 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.lang.NonNull;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * Bearer Authorization Request Filter.
@@ -27,15 +31,30 @@ import java.io.IOException;
 public class BearerAuthorizationRequestFilter extends OncePerRequestFilter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BearerAuthorizationRequestFilter.class);
+
+    /**
+     * Request attribute holding the {@link VerifiedToken} of the current request,
+     * so controllers can reuse it instead of verifying the token again.
+     */
+    public static final String VERIFIED_TOKEN_ATTRIBUTE = BearerAuthorizationRequestFilter.class.getName() + ".VERIFIED_TOKEN";
+
     private final BearerTokenService tokenService;
 
 
     @Qualifier("defaultUserDetailsService")
     private final UserDetailsService userDetailsService;
 
-    public BearerAuthorizationRequestFilter(BearerTokenService tokenService, UserDetailsService userDetailsService) {
+    private final BearerAuthenticationMode authenticationMode;
+
+    private final BearerTokenAuthenticationCache authenticationCache;
+
+    public BearerAuthorizationRequestFilter(BearerTokenService tokenService, UserDetailsService userDetailsService,
+                                            BearerAuthenticationMode authenticationMode,
+                                            BearerTokenAuthenticationCache authenticationCache) {
         this.tokenService = tokenService;
         this.userDetailsService = userDetailsService;
+        this.authenticationMode = authenticationMode;
+        this.authenticationCache = authenticationCache;
     }
 
     /**
@@ -49,17 +68,47 @@ public class BearerAuthorizationRequestFilter extends OncePerRequestFilter {
         try {
             String token = tokenService.getBearerTokenFrom(request);
             LOGGER.info("Token: {}", token);
-            if (token != null && tokenService.validateToken(token)) {
-                String email = tokenService.getEmailFromToken(token);
-                var userDetails = userDetailsService.loadUserByUsername(email);
-                SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationTokenBuilder.build(userDetails, request));
+            var cachedAuthentication = token != null ? authenticationCache.get(token) : null;
+            if (cachedAuthentication != null) {
+                request.setAttribute(VERIFIED_TOKEN_ATTRIBUTE, cachedAuthentication.verifiedToken());
+                SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationTokenBuilder.build(cachedAuthentication.userDetails(), request));
             } else {
-                LOGGER.info("Token is not valid");
+                authenticate(request, token);
             }
-
         } catch (Exception e) {
             LOGGER.error("Cannot set user authentication: {}", e.getMessage());
         }
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * This method is responsible for verifying a token that is not cached and setting the user authentication.
+     * @param request The request object.
+     * @param token The bearer token, or null if the request has none.
+     */
+    private void authenticate(HttpServletRequest request, String token) {
+        Optional<VerifiedToken> verifiedToken = token != null ? tokenService.verifyToken(token) : Optional.empty();
+        if (verifiedToken.isPresent()) {
+            request.setAttribute(VERIFIED_TOKEN_ATTRIBUTE, verifiedToken.get());
+            var userDetails = resolveUserDetails(verifiedToken.get());
+            authenticationCache.put(token, verifiedToken.get(), userDetails);
+            SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationTokenBuilder.build(userDetails, request));
+        } else {
+            LOGGER.info("Token is not valid");
+        }
+    }
+
+    /**
+     * This method is responsible for resolving the principal of a verified token.
+     * In {@link BearerAuthenticationMode#CLAIMS} mode the principal is built from the token claims,
+     * falling back to the user details service for tokens without role claims.
+     * @param verifiedToken The verified token.
+     * @return The user details.
+     */
+    private UserDetails resolveUserDetails(VerifiedToken verifiedToken) {
+        if (authenticationMode == BearerAuthenticationMode.CLAIMS && verifiedToken.hasRoles()) {
+            return UserDetailsImpl.build(verifiedToken);
+        }
+        return userDetailsService.loadUserByUsername(verifiedToken.subject());
+    }
 }
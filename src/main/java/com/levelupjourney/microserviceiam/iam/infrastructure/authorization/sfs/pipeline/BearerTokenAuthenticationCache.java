@@ -0,0 +1,146 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.authorization.sfs.pipeline;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.VerifiedToken;
+import com.levelupjourney.microserviceiam.iam.infrastructure.authorization.sfs.model.UserDetailsImpl;
+import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.TokenDigest;
+import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.keys.JwtKeyRingChangedEvent;
+import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.revocation.TokenVersionRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bearer Token Authentication Cache.
+ * <p>
+ * This class caches the principal resolved for a bearer token, keyed by the SHA-256 digest of the token.
+ * A cache hit skips both the signature verification and the user details lookup.
+ * Only the principal name and authorities are kept, never the password hash of the user details.
+ * Entries never outlive the expiration of their token and are evicted by size (W-TinyLFU).
+ * Entries whose token version has been invalidated are dropped on read, entries of a user are evicted when their tokens are revoked,
+ * and every entry is dropped when the JWT keys change.
+ * Hit, miss and eviction metrics are published under the {@code iam.bearer.tokens} cache name.
+ * </p>
+ */
+@Component
+public class BearerTokenAuthenticationCache {
+
+    private final boolean enabled;
+    private final Duration maximumTimeToLive;
+    private final Cache<TokenDigest, CachedAuthentication> cache;
+    private final TokenVersionRegistry tokenVersionRegistry;
+
+    public BearerTokenAuthenticationCache(@Value("${app.jwt.cache.enabled:true}") boolean enabled,
+                                          @Value("${app.jwt.cache.maximum-size:10000}") long maximumSize,
+                                          @Value("${app.jwt.cache.maximum-time-to-live:PT5M}") Duration maximumTimeToLive,
+                                          TokenVersionRegistry tokenVersionRegistry,
+                                          MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.maximumTimeToLive = maximumTimeToLive;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "iam.bearer.tokens");
+    }
+
+    /**
+     * This method returns the cached authentication of a token.
+     * @param token The bearer token.
+     * @return The cached authentication, or null if the token is not cached, has been invalidated or the cache is disabled.
+     */
+    public CachedAuthentication get(String token) {
+        if (!enabled) return null;
+        var digest = TokenDigest.of(token);
+        var cached = cache.getIfPresent(digest);
+        if (cached == null) return null;
+        var verifiedToken = cached.verifiedToken();
+        if (!tokenVersionRegistry.isCurrent(verifiedToken.userId(), verifiedToken.tokenVersion())) {
+            cache.invalidate(digest);
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * This method caches the authentication resolved for a token.
+     * Tokens without an expiration are never cached.
+     * @param token The bearer token.
+     * @param verifiedToken The verified token.
+     * @param userDetails The resolved user details.
+     */
+    public void put(String token, VerifiedToken verifiedToken, UserDetails userDetails) {
+        if (!enabled || verifiedToken.expiresAt() == null) return;
+        cache.put(TokenDigest.of(token),
+                new CachedAuthentication(verifiedToken, userDetails.getUsername(), List.copyOf(userDetails.getAuthorities())));
+    }
+
+    /**
+     * This method evicts the cached authentication of every token of a user.
+     * @param userId The user id.
+     */
+    public void evictUser(UUID userId) {
+        cache.asMap().values().removeIf(cached -> userId.equals(cached.verifiedToken().userId()));
+    }
+
+    /**
+     * This method evicts every cached token when the JWT keys change, so tokens signed with a retired key are verified again.
+     * @param event The key ring changed event.
+     */
+    @EventListener
+    public void onKeyRingChanged(JwtKeyRingChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Cached authentication.
+     * @param verifiedToken The verified token.
+     * @param username The name of the principal resolved for the token.
+     * @param authorities The authorities of the principal resolved for the token.
+     */
+    public record CachedAuthentication(VerifiedToken verifiedToken, String username, List<GrantedAuthority> authorities) {
+
+        /**
+         * This method builds the principal of the cached authentication, without credentials.
+         * @return The user details.
+         */
+        public UserDetails userDetails() {
+            return new UserDetailsImpl(username, null, authorities);
+        }
+    }
+
+    /**
+     * Expires each entry at its token expiration, bounded by the maximum time to live.
+     */
+    private class TokenExpiry implements Expiry<TokenDigest, CachedAuthentication> {
+        @Override
+        public long expireAfterCreate(TokenDigest key, CachedAuthentication value, long currentTime) {
+            var remaining = Duration.between(Instant.now(), value.verifiedToken().expiresAt());
+            if (remaining.isNegative()) return 0;
+            return Math.min(remaining.toNanos(), maximumTimeToLive.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
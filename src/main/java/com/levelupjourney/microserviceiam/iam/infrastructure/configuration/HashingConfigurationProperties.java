@@ -0,0 +1,215 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.hashing")
+public class HashingConfigurationProperties {
+
+    private int threads;
+    private int queueCapacity = 64;
+    private Duration retryAfter = Duration.ofSeconds(1);
+    private String algorithm = "bcrypt";
+    private final Bcrypt bcrypt = new Bcrypt();
+    private final Argon2 argon2 = new Argon2();
+    private final Pbkdf2 pbkdf2 = new Pbkdf2();
+    private final Rehash rehash = new Rehash();
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public void setAlgorithm(String algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public Bcrypt getBcrypt() {
+        return bcrypt;
+    }
+
+    public Argon2 getArgon2() {
+        return argon2;
+    }
+
+    public Pbkdf2 getPbkdf2() {
+        return pbkdf2;
+    }
+
+    public Rehash getRehash() {
+        return rehash;
+    }
+
+    public static class Bcrypt {
+        private int strength;
+        private Duration latencyBudget = Duration.ofMillis(80);
+        private int minimumStrength = 10;
+        private int maximumStrength = 14;
+
+        public int getStrength() {
+            return strength;
+        }
+
+        public void setStrength(int strength) {
+            this.strength = strength;
+        }
+
+        public Duration getLatencyBudget() {
+            return latencyBudget;
+        }
+
+        public void setLatencyBudget(Duration latencyBudget) {
+            this.latencyBudget = latencyBudget;
+        }
+
+        public int getMinimumStrength() {
+            return minimumStrength;
+        }
+
+        public void setMinimumStrength(int minimumStrength) {
+            this.minimumStrength = minimumStrength;
+        }
+
+        public int getMaximumStrength() {
+            return maximumStrength;
+        }
+
+        public void setMaximumStrength(int maximumStrength) {
+            this.maximumStrength = maximumStrength;
+        }
+    }
+
+    public static class Argon2 {
+        private int saltLength = 16;
+        private int hashLength = 32;
+        private int parallelism = 1;
+        private int memory = 19456;
+        private int iterations = 2;
+
+        public int getSaltLength() {
+            return saltLength;
+        }
+
+        public void setSaltLength(int saltLength) {
+            this.saltLength = saltLength;
+        }
+
+        public int getHashLength() {
+            return hashLength;
+        }
+
+        public void setHashLength(int hashLength) {
+            this.hashLength = hashLength;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public int getMemory() {
+            return memory;
+        }
+
+        public void setMemory(int memory) {
+            this.memory = memory;
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+
+        public void setIterations(int iterations) {
+            this.iterations = iterations;
+        }
+    }
+
+    public static class Pbkdf2 {
+        private int saltLength = 16;
+        private int iterations = 600000;
+        private String algorithm = "PBKDF2WithHmacSHA256";
+        private String secret = "";
+
+        public int getSaltLength() {
+            return saltLength;
+        }
+
+        public void setSaltLength(int saltLength) {
+            this.saltLength = saltLength;
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+
+        public void setIterations(int iterations) {
+            this.iterations = iterations;
+        }
+
+        public String getAlgorithm() {
+            return algorithm;
+        }
+
+        public void setAlgorithm(String algorithm) {
+            this.algorithm = algorithm;
+        }
+
+        public String getSecret() {
+            return secret;
+        }
+
+        public void setSecret(String secret) {
+            this.secret = secret;
+        }
+    }
+
+    public static class Rehash {
+        private int threads = 2;
+        private int queueCapacity = 256;
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.eventconsumers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.levelupjourney.microserviceiam.iam.domain.model.events.UserTokensInvalidatedEvent;
+import com.levelupjourney.microserviceiam.iam.infrastructure.authorization.sfs.pipeline.BearerTokenAuthenticationCache;
+import com.levelupjourney.microserviceiam.iam.infrastructure.eventpublishers.IamEventPublisher;
+import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.revocation.TokenVersionRegistry;
+import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.services.TokenIntrospectionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Token Invalidation Event Consumer
+ * Applies the token invalidations published by any IAM instance to the local token version registry and token caches
+ * Every instance uses its own consumer group, so each one receives every invalidation
+ *
+ * @author LevelUp Journey Team
+ */
+@Component
+public class TokenInvalidationEventConsumer {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenInvalidationEventConsumer.class);
+
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final TokenIntrospectionService tokenIntrospectionService;
+    private final BearerTokenAuthenticationCache authenticationCache;
+    private final ObjectMapper objectMapper;
+
+    public TokenInvalidationEventConsumer(TokenVersionRegistry tokenVersionRegistry,
+                                          TokenIntrospectionService tokenIntrospectionService,
+                                          BearerTokenAuthenticationCache authenticationCache,
+                                          ObjectMapper objectMapper) {
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.tokenIntrospectionService = tokenIntrospectionService;
+        this.authenticationCache = authenticationCache;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Consumes a user tokens invalidated event
+     *
+     * @param payload The JSON payload of the event
+     */
+    @KafkaListener(topics = IamEventPublisher.USER_TOKENS_INVALIDATED_TOPIC,
+            groupId = "iam-token-versions-${random.uuid}",
+            autoStartup = "${app.kafka.enabled:true}",
+            properties = "auto.offset.reset=latest")
+    public void onUserTokensInvalidated(String payload) {
+        try {
+            var event = objectMapper.readValue(payload, UserTokensInvalidatedEvent.class);
+            tokenVersionRegistry.update(event.getUserId(), event.getTokenVersion());
+            tokenIntrospectionService.evictUser(event.getUserId());
+            authenticationCache.evictUser(event.getUserId());
+            logger.info("Applied token version {} for userId: {}", event.getTokenVersion(), event.getUserId());
+        } catch (JsonProcessingException ex) {
+            logger.error("Ignoring malformed UserTokensInvalidatedEvent: {}", ex.getMessage());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.levelupjourney.microserviceiam.iam.infrastructure.eventpublishers;
 
 import com.levelupjourney.microserviceiam.iam.domain.model.events.UserRegisteredEvent;
+import com.levelupjourney.microserviceiam.iam.domain.model.events.UserTokensInvalidatedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -22,13 +23,14 @@ public class IamEventPublisher {
 
     private static final Logger logger = LoggerFactory.getLogger(IamEventPublisher.class);
     private static final String USER_REGISTERED_TOPIC = "iam.user.registered";
+    public static final String USER_TOKENS_INVALIDATED_TOPIC = "iam.user.tokens-invalidated";
 
-    private final KafkaTemplate<String, UserRegisteredEvent> kafkaTemplate;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
     
     @Value("${app.kafka.enabled:true}")
     private boolean kafkaEnabled;
 
-    public IamEventPublisher(KafkaTemplate<String, UserRegisteredEvent> kafkaTemplate) {
+    public IamEventPublisher(KafkaTemplate<String, Object> kafkaTemplate) {
         this.kafkaTemplate = kafkaTemplate;
     }
 
@@ -39,28 +41,44 @@ public class IamEventPublisher {
      * @param event The user registered event
      */
     public void publishUserRegistered(UserRegisteredEvent event) {
+        send(USER_REGISTERED_TOPIC, event.getUserId().toString(), event);
+    }
+
+    /**
+     * Publishes a user tokens invalidated event to Kafka
+     * Every IAM instance consumes it to reject the tokens issued with an older token version
+     *
+     * @param event The user tokens invalidated event
+     */
+    public void publishUserTokensInvalidated(UserTokensInvalidatedEvent event) {
+        send(USER_TOKENS_INVALIDATED_TOPIC, event.getUserId().toString(), event);
+    }
+
+    private void send(String topic, String key, Object event) {
+        String eventName = event.getClass().getSimpleName();
+
         // Skip Kafka if disabled
         if (!kafkaEnabled) {
-            logger.debug("Kafka is disabled, skipping event publication for userId: {}", event.getUserId());
+            logger.debug("Kafka is disabled, skipping {} publication for userId: {}", eventName, key);
             return;
         }
 
-        String key = event.getUserId().toString();
-        logger.info("Publishing UserRegisteredEvent for userId: {} to topic: {}", key, USER_REGISTERED_TOPIC);
+        logger.info("Publishing {} for userId: {} to topic: {}", eventName, key, topic);
 
         try {
             // Fire and forget - no bloqueamos el endpoint
-            CompletableFuture<SendResult<String, UserRegisteredEvent>> future = 
-                kafkaTemplate.send(USER_REGISTERED_TOPIC, key, event);
+            CompletableFuture<SendResult<String, Object>> future =
+                kafkaTemplate.send(topic, key, event);
 
             // Manejo asíncrono del resultado - no bloquea
             future.whenComplete((result, ex) -> {
                 if (ex != null) {
-                    logger.error("Failed to publish UserRegisteredEvent for userId: {}. Error: {}", 
-                        key, ex.getMessage());
+                    logger.error("Failed to publish {} for userId: {}. Error: {}",
+                        eventName, key, ex.getMessage());
                     logger.debug("Full error stack trace:", ex);
                 } else {
-                    logger.info("Successfully published UserRegisteredEvent for userId: {} to partition: {}, offset: {}",
+                    logger.info("Successfully published {} for userId: {} to partition: {}, offset: {}",
+                            eventName,
                             key,
                             result.getRecordMetadata().partition(),
                             result.getRecordMetadata().offset());
@@ -68,7 +86,7 @@ public class IamEventPublisher {
             });
         } catch (Exception ex) {
             // Captura excepciones síncronas (ej: Kafka no disponible)
-            logger.error("Exception while sending to Kafka for userId: {}. API continues normally. Error: {}", 
+            logger.error("Exception while sending to Kafka for userId: {}. API continues normally. Error: {}",
                 key, ex.getMessage());
             logger.debug("Full error stack trace:", ex);
             // No lanzamos la excepción - el endpoint debe continuar
@@ -0,0 +1,16 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.hashing.password;
+
+import com.levelupjourney.microserviceiam.iam.application.internal.outboundservices.hashing.HashingService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * This interface is a marker interface for the password hashing service.
+ * It extends the {@link HashingService} and {@link PasswordEncoder} interfaces.
+ * This interface is used to inject the password hashing service implemented by the
+ * {@link com.levelupjourney.microserviceiam.iam.infrastructure.hashing.password.services.HashingServiceImpl} class,
+ * which hashes with BCrypt, Argon2id or PBKDF2.
+ */
+public interface PasswordHashingService extends HashingService, PasswordEncoder {
+    @Override
+    boolean upgradeEncoding(String encodedPassword);
+}
@@ -0,0 +1,40 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.hashing.password.services;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * This class picks the BCrypt strength for the host it runs on.
+ * Each strength step doubles the hashing work, so measuring the slowest of a few hashes at the minimum strength
+ * is enough to find the highest strength whose hashing time stays within the latency budget.
+ * The result depends on the host, so clusters should pin the strength it reports instead of calibrating on every node.
+ */
+final class BCryptStrengthCalibrator {
+    private static final int SAMPLES = 5;
+    private static final String SAMPLE_PASSWORD = "Calibration-Password-1";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    /**
+     * Calibrate the BCrypt strength
+     * @param latencyBudget the maximum time a single hash may take
+     * @param minimumStrength the strength never to go below
+     * @param maximumStrength the strength never to go above
+     * @return int the highest strength within the latency budget, bounded by the minimum and maximum strengths
+     */
+    static int calibrate(Duration latencyBudget, int minimumStrength, int maximumStrength) {
+        var encoder = new BCryptPasswordEncoder(minimumStrength);
+        encoder.encode(SAMPLE_PASSWORD);
+        long slowest = 1;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            slowest = Math.max(slowest, System.nanoTime() - start);
+        }
+        long headroom = latencyBudget.toNanos() / slowest;
+        int extraStrength = headroom > 1 ? 63 - Long.numberOfLeadingZeros(headroom) : 0;
+        return Math.clamp(minimumStrength + extraStrength, minimumStrength, maximumStrength);
+    }
+}
@@ -0,0 +1,106 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.hashing.password.services;
+
+import com.levelupjourney.microserviceiam.iam.application.internal.outboundservices.hashing.HashingCapacityExceededException;
+import com.levelupjourney.microserviceiam.iam.infrastructure.configuration.HashingConfigurationProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * This class runs password hashing on a dedicated pool sized to the available CPUs.
+ * Hashing is CPU bound, so more threads than cores only add contention; the bounded queue rejects new work
+ * when it is full, so a login storm fails fast with {@link HashingCapacityExceededException}
+ * instead of tying up every request thread. Queue depth and queue wait time are published as metrics.
+ */
+@Component
+public class HashingExecutor {
+    private final ThreadPoolExecutor executor;
+    private final Timer waitTimer;
+    private final Duration retryAfter;
+
+    public HashingExecutor(HashingConfigurationProperties hashingConfigurationProperties, MeterRegistry meterRegistry) {
+        int threads = hashingConfigurationProperties.getThreads();
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        var threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(hashingConfigurationProperties.getQueueCapacity()),
+                runnable -> {
+                    var thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.retryAfter = hashingConfigurationProperties.getRetryAfter();
+        this.waitTimer = Timer.builder("iam.hashing.queue.wait")
+                .description("Time password hashing tasks wait in the queue")
+                .register(meterRegistry);
+        Gauge.builder("iam.hashing.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Number of password hashing tasks waiting in the queue")
+                .register(meterRegistry);
+        Gauge.builder("iam.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Number of password hashing tasks running")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run a hashing task on the hashing pool and wait for its result
+     * @param task the hashing task
+     * @param <T> the type of the result
+     * @return T the result of the task
+     * @throws HashingCapacityExceededException if the hashing queue is full
+     */
+    public <T> T execute(Supplier<T> task) {
+        Future<T> future = submit(task);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        } catch (CancellationException e) {
+            throw new IllegalStateException("Password hashing was cancelled", e);
+        }
+    }
+
+    /**
+     * Run a hashing task on the hashing pool without waiting for its result
+     * @param task the hashing task
+     * @param <T> the type of the result
+     * @return CompletableFuture the result of the task
+     * @throws HashingCapacityExceededException if the hashing queue is full
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return task.get();
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            throw new HashingCapacityExceededException(retryAfter);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
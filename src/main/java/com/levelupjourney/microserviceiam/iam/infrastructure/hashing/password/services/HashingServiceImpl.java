@@ -0,0 +1,69 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.hashing.password.services;
+
+import com.levelupjourney.microserviceiam.iam.infrastructure.configuration.HashingConfigurationProperties;
+import com.levelupjourney.microserviceiam.iam.infrastructure.hashing.password.PasswordHashingService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This class implements the {@link PasswordHashingService} interface.
+ * It is used to hash passwords with the configured algorithm (BCrypt by default, Argon2id or PBKDF2),
+ * and verifies hashes of any of them, see {@link PasswordEncoderFactory}.
+ * The hashing runs on the {@link HashingExecutor}, so it never competes with request threads for CPU.
+ * The BCrypt strength is pinned in the configuration so every node hashes alike; with a strength of 0 it is calibrated
+ * at startup to the highest value whose hashing time fits the latency budget on this host.
+ */
+@Service
+public class HashingServiceImpl implements PasswordHashingService {
+    private final PasswordEncoder passwordEncoder;
+    private final HashingExecutor hashingExecutor;
+
+    HashingServiceImpl(HashingExecutor hashingExecutor, HashingConfigurationProperties hashingConfigurationProperties) {
+        this.passwordEncoder = PasswordEncoderFactory.create(hashingConfigurationProperties);
+        this.hashingExecutor = hashingExecutor;
+    }
+
+    /**
+     * Hash a password using the configured algorithm
+     * @param rawPassword the password to hash
+     * @return String the hashed password, prefixed with the id of the algorithm
+     */
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hashingExecutor.execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Check if a raw password matches a hashed password
+     * @param rawPassword the raw password
+     * @param encodedPassword the hashed password
+     * @return boolean true if the raw password matches the hashed password, false otherwise
+     */
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return hashingExecutor.execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Hash a password using the configured algorithm without waiting for the result
+     * @param rawPassword the password to hash
+     * @return CompletableFuture the hashed password
+     */
+    @Override
+    public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+        return hashingExecutor.submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Check if a hashed password uses another algorithm or weaker parameters than the configured ones
+     * @param encodedPassword the hashed password
+     * @return boolean true if the password should be hashed again, false otherwise
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return encodedPassword != null && passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+}
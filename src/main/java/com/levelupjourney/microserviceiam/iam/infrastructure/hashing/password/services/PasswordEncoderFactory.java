@@ -0,0 +1,95 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.hashing.password.services;
+
+import com.levelupjourney.microserviceiam.iam.infrastructure.configuration.HashingConfigurationProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
+
+/**
+ * This class builds the password encoder from the hashing configuration.
+ * Hashes are prefixed with the id of their algorithm ({@code {bcrypt}}, {@code {argon2}}, {@code {pbkdf2}}),
+ * so hashes of every algorithm can be verified while new hashes use the configured one.
+ * Hashes without a prefix were stored before the prefixes were introduced and are verified as BCrypt.
+ * PBKDF2 hashes are keyed with a secret kept outside the database, which must be set to hash new passwords with PBKDF2.
+ */
+final class PasswordEncoderFactory {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PasswordEncoderFactory.class);
+
+    static final String BCRYPT = "bcrypt";
+    static final String ARGON2 = "argon2";
+    static final String PBKDF2 = "pbkdf2";
+
+    private PasswordEncoderFactory() {
+    }
+
+    /**
+     * Create the delegating password encoder
+     * @param properties the hashing configuration
+     * @return PasswordEncoder the password encoder
+     */
+    static PasswordEncoder create(HashingConfigurationProperties properties) {
+        var bcrypt = bcrypt(properties.getBcrypt());
+        var encoders = Map.<String, PasswordEncoder>of(
+                BCRYPT, bcrypt,
+                ARGON2, argon2(properties.getArgon2()),
+                PBKDF2, pbkdf2(properties.getPbkdf2()));
+        var algorithm = properties.getAlgorithm();
+        if (!encoders.containsKey(algorithm)) {
+            throw new IllegalArgumentException("Unsupported password hashing algorithm: " + algorithm);
+        }
+        if (PBKDF2.equals(algorithm) && (properties.getPbkdf2().getSecret() == null || properties.getPbkdf2().getSecret().isBlank())) {
+            throw new IllegalArgumentException("A PBKDF2 secret is required to hash new passwords with " + PBKDF2);
+        }
+        var passwordEncoder = new DelegatingPasswordEncoder(algorithm, encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        LOGGER.info("Hashing new passwords with {}", algorithm);
+        return passwordEncoder;
+    }
+
+    private static BCryptPasswordEncoder bcrypt(HashingConfigurationProperties.Bcrypt bcrypt) {
+        if (bcrypt.getStrength() > 0) {
+            LOGGER.info("Using BCrypt strength {}", bcrypt.getStrength());
+            return new BCryptPasswordEncoder(bcrypt.getStrength());
+        }
+        int strength = BCryptStrengthCalibrator.calibrate(bcrypt.getLatencyBudget(), bcrypt.getMinimumStrength(), bcrypt.getMaximumStrength());
+        LOGGER.warn("Using calibrated BCrypt strength {}; pin app.hashing.bcrypt.strength so every node hashes with the same strength", strength);
+        return new CalibratedBCryptPasswordEncoder(strength, bcrypt.getMinimumStrength());
+    }
+
+    private static Argon2PasswordEncoder argon2(HashingConfigurationProperties.Argon2 argon2) {
+        return new Argon2PasswordEncoder(argon2.getSaltLength(), argon2.getHashLength(), argon2.getParallelism(),
+                argon2.getMemory(), argon2.getIterations());
+    }
+
+    private static Pbkdf2PasswordEncoder pbkdf2(HashingConfigurationProperties.Pbkdf2 pbkdf2) {
+        var encoder = new Pbkdf2PasswordEncoder(pbkdf2.getSecret(), pbkdf2.getSaltLength(), pbkdf2.getIterations(),
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.valueOf(pbkdf2.getAlgorithm()));
+        encoder.setEncodeHashAsBase64(true);
+        return encoder;
+    }
+
+    /**
+     * BCrypt encoder with a calibrated strength.
+     * Calibrated strengths differ between hosts, so hashes are only upgraded when they are weaker than the minimum strength
+     * every node agrees on; otherwise nodes would keep rehashing each other's hashes.
+     */
+    private static final class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+        private final BCryptPasswordEncoder minimum;
+
+        private CalibratedBCryptPasswordEncoder(int strength, int minimumStrength) {
+            super(strength);
+            this.minimum = new BCryptPasswordEncoder(minimumStrength);
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            return minimum.upgradeEncoding(encodedPassword);
+        }
+    }
+}
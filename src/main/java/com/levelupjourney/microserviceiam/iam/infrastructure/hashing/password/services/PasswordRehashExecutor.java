@@ -0,0 +1,55 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.hashing.password.services;
+
+import com.levelupjourney.microserviceiam.iam.infrastructure.configuration.HashingConfigurationProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class stores rehashed passwords on a small pool of its own.
+ * Storing a hash is a database round trip, so it must not hold a {@link HashingExecutor} thread, which is sized
+ * for CPU bound work. The bounded queue rejects new work when it is full; a rejected rehash is simply not stored,
+ * and the password is rehashed again on a later sign-in.
+ */
+@Component
+public class PasswordRehashExecutor implements Executor {
+    private final ThreadPoolExecutor executor;
+
+    public PasswordRehashExecutor(HashingConfigurationProperties hashingConfigurationProperties, MeterRegistry meterRegistry) {
+        var rehash = hashingConfigurationProperties.getRehash();
+        var threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(rehash.getThreads(), rehash.getThreads(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(rehash.getQueueCapacity()),
+                runnable -> {
+                    var thread = new Thread(runnable, "password-rehash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        Gauge.builder("iam.hashing.rehash.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Number of rehashed passwords waiting to be stored")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run a task that stores a rehashed password
+     * @param task the task
+     * @throws java.util.concurrent.RejectedExecutionException if the queue is full
+     */
+    @Override
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
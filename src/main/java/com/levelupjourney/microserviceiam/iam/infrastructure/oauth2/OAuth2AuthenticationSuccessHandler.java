@@ -5,6 +5,7 @@ import com.levelupjourney.microserviceiam.iam.domain.model.commands.SignUpComman
 import com.levelupjourney.microserviceiam.iam.domain.model.entities.Role;
 import com.levelupjourney.microserviceiam.iam.domain.model.events.UserRegisteredEvent;
 import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.OAuth2UserInfo;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.Password;
 import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.Roles;
 import com.levelupjourney.microserviceiam.iam.domain.services.RoleQueryService;
 import com.levelupjourney.microserviceiam.iam.domain.services.UserCommandService;
@@ -102,7 +103,7 @@ public class OAuth2AuthenticationSuccessHandler implements AuthenticationSuccess
             Role userRole = roleQueryService.handle(new com.levelupjourney.microserviceiam.iam.domain.model.queries.GetRoleByNameQuery(Roles.ROLE_STUDENT))
                     .orElseThrow(() -> new RuntimeException("Student role not found"));
 
-            SignUpCommand signUpCommand = new SignUpCommand(email, "oauth2_user_" + System.currentTimeMillis(), List.of(userRole));
+            SignUpCommand signUpCommand = new SignUpCommand(email, Password.generate().password(), List.of(userRole));
             Optional<User> newUser = userCommandService.handle(signUpCommand);
 
             if (newUser.isEmpty()) {
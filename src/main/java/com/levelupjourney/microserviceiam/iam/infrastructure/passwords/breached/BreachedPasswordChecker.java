@@ -0,0 +1,51 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.passwords.breached;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.password.CompromisedPasswordChecker;
+import org.springframework.security.authentication.password.CompromisedPasswordDecision;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * Breached password checker
+ * <p>
+ *     This class rejects passwords found in public breach corpora without any network call, by looking them up in
+ *     the memory-mapped {@link BreachedPasswordIndex} configured with {@code app.passwords.breached.index-file}.
+ *     When no index file is configured, every password is accepted.
+ * </p>
+ */
+@Component
+public class BreachedPasswordChecker implements CompromisedPasswordChecker {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BreachedPasswordChecker.class);
+
+    private final BreachedPasswordIndex index;
+
+    public BreachedPasswordChecker(@Value("${app.passwords.breached.index-file:}") String indexFile) {
+        if (indexFile == null || indexFile.isBlank()) {
+            LOGGER.info("No breached password index configured, breached passwords are not rejected");
+            this.index = null;
+            return;
+        }
+        try {
+            this.index = BreachedPasswordIndex.open(Path.of(indexFile));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open breached password index " + indexFile, e);
+        }
+        LOGGER.info("Loaded breached password index {} with {} hashes", indexFile, index.size());
+    }
+
+    /**
+     * This method checks if a password appears in the breached password index.
+     * @param password The raw password.
+     * @return The decision, compromised if the password is in the index.
+     */
+    @Override
+    public CompromisedPasswordDecision check(String password) {
+        return new CompromisedPasswordDecision(index != null && password != null && index.contains(password));
+    }
+}
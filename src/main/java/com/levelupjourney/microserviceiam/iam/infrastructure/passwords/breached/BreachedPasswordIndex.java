@@ -0,0 +1,146 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.passwords.breached;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Breached password index
+ * <p>
+ *     This class looks up passwords in a memory-mapped index of breached password hashes, so the index lives in the
+ *     page cache instead of the heap and a lookup only touches a few pages.
+ * </p>
+ * <p>
+ *     The index holds the first 8 bytes of the SHA-1 hash of each password as big-endian longs, sorted as unsigned
+ *     values, after a header with the number of hashes and the offset of each bucket of hashes sharing their first
+ *     16 bits. A lookup reads the bounds of one bucket and binary searches it.
+ *     The file is written by {@link BreachedPasswordIndexBuilder}.
+ * </p>
+ * <pre>
+ *     long   magic
+ *     long   number of hashes
+ *     long[] 65537 bucket offsets, in hashes
+ *     long[] sorted hashes
+ * </pre>
+ */
+final class BreachedPasswordIndex {
+    static final long MAGIC = 0x49414D4250575831L; // "IAMBPWX1"
+    static final int BUCKET_BITS = 16;
+    static final int BUCKET_COUNT = 1 << BUCKET_BITS;
+    static final int HEADER_SIZE = Long.BYTES * (2 + BUCKET_COUNT + 1);
+
+    // A mapping cannot exceed 2 GiB, so the hashes are mapped in chunks of 2^27 hashes (1 GiB)
+    private static final int CHUNK_BITS = 27;
+    private static final long CHUNK_MASK = (1L << CHUNK_BITS) - 1;
+
+    private static final ThreadLocal<MessageDigest> SHA1 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not available", e);
+        }
+    });
+
+    private final MappedByteBuffer header;
+    private final MappedByteBuffer[] chunks;
+    private final long size;
+
+    private BreachedPasswordIndex(MappedByteBuffer header, MappedByteBuffer[] chunks, long size) {
+        this.header = header;
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    /**
+     * This method maps an index file.
+     * @param file The index file.
+     * @return The index.
+     * @throws IOException If the file cannot be read or is not a breached password index.
+     */
+    static BreachedPasswordIndex open(Path file) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Breached password index " + file + " is truncated");
+            }
+            var header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getLong(0) != MAGIC) {
+                throw new IOException(file + " is not a breached password index");
+            }
+            long size = header.getLong(Long.BYTES);
+            if (size < 0 || channel.size() != HEADER_SIZE + size * Long.BYTES || bucketStart(header, BUCKET_COUNT) != size) {
+                throw new IOException("Breached password index " + file + " is truncated");
+            }
+            var chunks = new MappedByteBuffer[(int) ((size + CHUNK_MASK) >>> CHUNK_BITS)];
+            for (int i = 0; i < chunks.length; i++) {
+                long first = (long) i << CHUNK_BITS;
+                long count = Math.min(size - first, 1L << CHUNK_BITS);
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + first * Long.BYTES, count * Long.BYTES);
+            }
+            return new BreachedPasswordIndex(header, chunks, size);
+        }
+    }
+
+    /**
+     * This method returns the indexed hash of a password.
+     * @param password The password.
+     * @return The first 8 bytes of the SHA-1 hash of the UTF-8 password.
+     */
+    static long hash(String password) {
+        var digest = SHA1.get();
+        return ByteBuffer.wrap(digest.digest(password.getBytes(StandardCharsets.UTF_8))).getLong();
+    }
+
+    /**
+     * This method checks if a password is in the index.
+     * @param password The password.
+     * @return True if the password hash is in the index.
+     */
+    boolean contains(String password) {
+        return containsHash(hash(password));
+    }
+
+    /**
+     * This method checks if a hash is in the index.
+     * @param hash The first 8 bytes of a SHA-1 hash.
+     * @return True if the hash is in the index.
+     */
+    boolean containsHash(long hash) {
+        int bucket = (int) (hash >>> (Long.SIZE - BUCKET_BITS));
+        long low = bucketStart(header, bucket);
+        long high = bucketStart(header, bucket + 1) - 1;
+        while (low <= high) {
+            long middle = (low + high) >>> 1;
+            int comparison = Long.compareUnsigned(hashAt(middle), hash);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * This method returns the number of hashes in the index.
+     * @return The number of hashes.
+     */
+    long size() {
+        return size;
+    }
+
+    private long hashAt(long position) {
+        return chunks[(int) (position >>> CHUNK_BITS)].getLong((int) (position & CHUNK_MASK) * Long.BYTES);
+    }
+
+    private static long bucketStart(ByteBuffer header, int bucket) {
+        return header.getLong(Long.BYTES * (2 + bucket));
+    }
+}
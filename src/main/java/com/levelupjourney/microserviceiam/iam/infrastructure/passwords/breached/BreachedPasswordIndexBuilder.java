@@ -0,0 +1,93 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.passwords.breached;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * Breached password index builder
+ * <p>
+ *     This class converts a text list of breached passwords into the index read by {@link BreachedPasswordIndex}.
+ *     Each line is either a SHA-1 hash in hex, optionally followed by {@code :count} as in the Have I Been Pwned
+ *     downloads, or a plain text password with {@code --plain}. Duplicates are removed.
+ *     The hashes are sorted in memory, which takes 8 bytes of heap per line.
+ * </p>
+ * <p>
+ *     It is run from the command line by {@code BreachedPasswordIndexTool}, in the {@code src/tools} source folder.
+ * </p>
+ */
+public final class BreachedPasswordIndexBuilder {
+
+    private BreachedPasswordIndexBuilder() {
+    }
+
+    /**
+     * This method builds an index file.
+     * @param input The text list of breached passwords or SHA-1 hashes.
+     * @param output The index file to write.
+     * @param plain True if the lines are plain text passwords, false if they are SHA-1 hashes.
+     * @return The number of distinct hashes written.
+     * @throws IOException If a file cannot be read or written.
+     */
+    static long build(Path input, Path output, boolean plain) throws IOException {
+        var hashes = new long[1 << 20];
+        int size = 0;
+        try (var lines = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (line.isEmpty()) continue;
+                if (size == hashes.length) {
+                    hashes = Arrays.copyOf(hashes, Math.addExact(size, size >> 1));
+                }
+                hashes[size++] = plain ? BreachedPasswordIndex.hash(line) : parseHash(line);
+            }
+        }
+        // Flipping the sign bit makes the signed sort order the unsigned order of the hashes
+        for (int i = 0; i < size; i++) hashes[i] ^= Long.MIN_VALUE;
+        Arrays.sort(hashes, 0, size);
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            long hash = hashes[i] ^ Long.MIN_VALUE;
+            if (distinct == 0 || hashes[distinct - 1] != hash) {
+                hashes[distinct++] = hash;
+            }
+        }
+
+        var bucketStarts = new long[BreachedPasswordIndex.BUCKET_COUNT + 1];
+        for (int i = 0; i < distinct; i++) {
+            bucketStarts[(int) (hashes[i] >>> (Long.SIZE - BreachedPasswordIndex.BUCKET_BITS)) + 1]++;
+        }
+        for (int bucket = 1; bucket < bucketStarts.length; bucket++) {
+            bucketStarts[bucket] += bucketStarts[bucket - 1];
+        }
+
+        var temporary = output.resolveSibling(output.getFileName() + ".tmp");
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary), 1 << 16))) {
+            out.writeLong(BreachedPasswordIndex.MAGIC);
+            out.writeLong(distinct);
+            for (long bucketStart : bucketStarts) {
+                out.writeLong(bucketStart);
+            }
+            for (int i = 0; i < distinct; i++) {
+                out.writeLong(hashes[i]);
+            }
+        }
+        Files.move(temporary, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return distinct;
+    }
+
+    private static long parseHash(String line) {
+        int end = line.indexOf(':');
+        var hex = (end < 0 ? line : line.substring(0, end)).trim();
+        if (hex.length() != 40) {
+            throw new IllegalArgumentException("Not a SHA-1 hash: " + line);
+        }
+        return HexFormat.fromHexDigitsToLong(hex, 0, 16);
+    }
+}
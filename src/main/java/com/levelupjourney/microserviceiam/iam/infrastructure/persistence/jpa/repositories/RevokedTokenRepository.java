@@ -0,0 +1,41 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.persistence.jpa.repositories;
+
+import com.levelupjourney.microserviceiam.iam.domain.model.entities.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * This interface is responsible for providing the RevokedToken entity related operations.
+ * It extends the JpaRepository interface.
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, UUID> {
+
+    /**
+     * This method records a token id unless it is already recorded, in a single atomic statement.
+     * @param tokenId The token id.
+     * @param expiresAt The expiration of the token.
+     * @return 1 if the token id was recorded, 0 if it was already recorded.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO revoked_tokens (token_id, expires_at) VALUES (:tokenId, :expiresAt) ON CONFLICT (token_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("tokenId") UUID tokenId, @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * This method deletes the tokens that have expired.
+     * @param now The current instant.
+     * @return The number of deleted tokens.
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
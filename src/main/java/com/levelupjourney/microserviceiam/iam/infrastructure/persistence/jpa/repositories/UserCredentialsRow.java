@@ -0,0 +1,18 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.persistence.jpa.repositories;
+
+import java.util.UUID;
+
+/**
+ * This interface is the projection of the credentials query of {@link UserRepository}.
+ */
+public interface UserCredentialsRow {
+    UUID getId();
+
+    String getEmail();
+
+    String getPassword();
+
+    int getTokenVersion();
+
+    short getRoleMask();
+}
@@ -1,35 +1,114 @@
 package com.levelupjourney.microserviceiam.iam.infrastructure.persistence.jpa.repositories;
 
 import com.levelupjourney.microserviceiam.iam.domain.model.aggregates.User;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserExportRow;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserSummary;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserTokenVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * This interface is responsible for providing the User entity related operations.
- * It extends the JpaRepository interface.
+ * It extends the JpaRepository interface, and the JpaSpecificationExecutor and UserSummaryQueries interfaces
+ * for the filtered user listing.
+ * The summary queries select the {@link UserSummary} columns only, for the read paths that do not need the aggregate.
+ * @see UserSpecifications
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID>
+public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificationExecutor<User>, UserSummaryQueries
 {
     /**
      * This method is responsible for finding the user by email.
+     * The email is compared with the normalized email column, so the lookup ignores case and surrounding whitespace.
      * @param email The email.
      * @return The user object.
      */
-    @Query("SELECT u FROM User u WHERE u.emailAddress.email = :email")
+    @Query("SELECT u FROM User u WHERE u.emailAddress.normalized = LOWER(TRIM(:email))")
     Optional<User> findByEmail(@Param("email") String email);
 
     /**
      * This method is responsible for checking if the user exists by email.
+     * The email is compared with the normalized email column, so the check ignores case and surrounding whitespace.
      * @param email The email.
      * @return True if the user exists, false otherwise.
      */
-    @Query("SELECT CASE WHEN COUNT(u) > 0 THEN TRUE ELSE FALSE END FROM User u WHERE u.emailAddress.email = :email")
+    @Query("SELECT CASE WHEN COUNT(u) > 0 THEN TRUE ELSE FALSE END FROM User u WHERE u.emailAddress.normalized = LOWER(TRIM(:email))")
     boolean existsByEmail(@Param("email") String email);
 
+    /**
+     * This method is responsible for finding the credentials of the user by email, for signing in.
+     * The credentials and the role mask are read from the covering index on the normalized email,
+     * without loading the user entity or joining its roles.
+     * @param email The email.
+     * @return The user credentials.
+     */
+    @Query(value = """
+            SELECT u.id AS "id", u.email_normalized AS "email", u.password AS "password",
+                   u.token_version AS "tokenVersion", u.role_mask AS "roleMask"
+            FROM users u
+            WHERE u.email_normalized = LOWER(TRIM(:email))
+            """, nativeQuery = true)
+    Optional<UserCredentialsRow> findCredentialsByEmail(@Param("email") String email);
+
+    /**
+     * This method is responsible for finding the summary of the user by id.
+     * @param id The user id.
+     * @return The user summary.
+     */
+    @Query("SELECT new com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserSummary(u.id, u.emailAddress.normalized, u.createdAt) FROM User u WHERE u.id = :id")
+    Optional<UserSummary> findSummaryById(@Param("id") UUID id);
+
+    /**
+     * This method is responsible for finding the summary of the user by email.
+     * The email is compared with the normalized email column, so the lookup ignores case and surrounding whitespace.
+     * @param email The email.
+     * @return The user summary.
+     */
+    @Query("SELECT new com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserSummary(u.id, u.emailAddress.normalized, u.createdAt) FROM User u WHERE u.emailAddress.normalized = LOWER(TRIM(:email))")
+    Optional<UserSummary> findSummaryByEmail(@Param("email") String email);
+
+    /**
+     * This method is responsible for finding the users whose tokens have been invalidated at least once.
+     * @return The token versions greater than zero.
+     */
+    @Query("SELECT new com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserTokenVersion(u.id, u.tokenVersion) FROM User u WHERE u.tokenVersion > 0")
+    List<UserTokenVersion> findInvalidatedTokenVersions();
+
+    /**
+     * This method replaces the password of a user, only if it has not changed since it was read.
+     * @param id The user id.
+     * @param currentPassword The password hash that was read.
+     * @param newPassword The new password hash.
+     * @return The number of updated users.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.userPassword.password = :newPassword WHERE u.id = :id AND u.userPassword.password = :currentPassword")
+    int updatePassword(@Param("id") UUID id, @Param("currentPassword") String currentPassword, @Param("newPassword") String newPassword);
+
+    /**
+     * This method streams every user with its role mask, in (createdAt, id) order, through a database cursor
+     * that fetches 1000 rows at a time.
+     * Only the selected columns are read, so no entity is kept in the persistence context,
+     * and the stream must be consumed and closed within a transaction.
+     * @return The user export rows.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserExportRow(u.id, u.emailAddress.normalized, u.createdAt, u.roleMask) FROM User u ORDER BY u.createdAt, u.id")
+    Stream<UserExportRow> streamUserExportRows();
 }
@@ -0,0 +1,67 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.persistence.jpa.repositories;
+
+import com.levelupjourney.microserviceiam.iam.domain.model.aggregates.User;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.Roles;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserPageCursor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * This class provides the {@link Specification} filters of the user listing.
+ * The users are listed in (createdAt, id) order, which the users (created_at, id) index serves directly.
+ */
+public final class UserSpecifications {
+    public static final Sort KEYSET_ORDER = Sort.by("createdAt", "id");
+
+    private UserSpecifications() {
+    }
+
+    /**
+     * This method filters the users that have a role.
+     * @param role The role.
+     * @return The specification.
+     */
+    public static Specification<User> hasRole(Roles role) {
+        return (root, query, builder) -> builder.equal(root.join("roles").get("name"), role);
+    }
+
+    /**
+     * This method filters the users created at or after an instant.
+     * @param createdFrom The inclusive lower bound.
+     * @return The specification.
+     */
+    public static Specification<User> createdFrom(Instant createdFrom) {
+        return (root, query, builder) -> builder.greaterThanOrEqualTo(root.<Date>get("createdAt"), Timestamp.from(createdFrom));
+    }
+
+    /**
+     * This method filters the users created before an instant.
+     * @param createdTo The exclusive upper bound.
+     * @return The specification.
+     */
+    public static Specification<User> createdBefore(Instant createdTo) {
+        return (root, query, builder) -> builder.lessThan(root.<Date>get("createdAt"), Timestamp.from(createdTo));
+    }
+
+    /**
+     * This method filters the users after a cursor in (createdAt, id) order.
+     * The redundant lower bound on createdAt lets the index range scan start at the cursor.
+     * @param cursor The cursor.
+     * @return The specification.
+     */
+    public static Specification<User> after(UserPageCursor cursor) {
+        return (root, query, builder) -> {
+            var createdAt = root.<Date>get("createdAt");
+            var cursorCreatedAt = Timestamp.from(cursor.createdAt());
+            return builder.and(
+                    builder.greaterThanOrEqualTo(createdAt, cursorCreatedAt),
+                    builder.or(
+                            builder.greaterThan(createdAt, cursorCreatedAt),
+                            builder.greaterThan(root.get("id"), cursor.id())));
+        };
+    }
+}
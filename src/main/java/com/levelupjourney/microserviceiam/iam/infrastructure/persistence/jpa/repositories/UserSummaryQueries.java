@@ -0,0 +1,23 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.persistence.jpa.repositories;
+
+import com.levelupjourney.microserviceiam.iam.domain.model.aggregates.User;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserSummary;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * This interface provides the user listing as {@link UserSummary} projections.
+ * It is a fragment of {@link UserRepository}, implemented by {@link UserSummaryQueriesImpl}.
+ */
+public interface UserSummaryQueries {
+    /**
+     * This method finds the summaries of the users matching a specification.
+     * @param specification The filter.
+     * @param sort The order of the users.
+     * @param limit The maximum number of users.
+     * @return The user summaries.
+     */
+    List<UserSummary> findSummaries(Specification<User> specification, Sort sort, int limit);
+}
@@ -0,0 +1,36 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.persistence.jpa.repositories;
+
+import com.levelupjourney.microserviceiam.iam.domain.model.aggregates.User;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+/**
+ * This class implements {@link UserSummaryQueries} with a criteria query that selects the summary columns only.
+ * Spring Data's fluent {@code findBy(specification, ...)} always reads entities, even when it is projected,
+ * so it would load the roles and keep every user in the persistence context.
+ */
+class UserSummaryQueriesImpl implements UserSummaryQueries {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserSummary> findSummaries(Specification<User> specification, Sort sort, int limit) {
+        var builder = entityManager.getCriteriaBuilder();
+        var query = builder.createQuery(UserSummary.class);
+        var root = query.from(User.class);
+        query.select(builder.construct(UserSummary.class,
+                root.get("id"), root.get("emailAddress").get("normalized"), root.get("createdAt")));
+        var predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, builder));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+}
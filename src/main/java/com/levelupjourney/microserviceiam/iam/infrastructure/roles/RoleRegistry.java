@@ -0,0 +1,90 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.roles;
+
+import com.levelupjourney.microserviceiam.iam.domain.model.entities.Role;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.Roles;
+import com.levelupjourney.microserviceiam.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Role registry
+ * <p>
+ *     This class keeps every {@link Role} entity in memory, keyed by its name, so sign-ups and role queries do not
+ *     query the database for a table of a few rows that only changes through migrations or role seeding.
+ *     The roles are loaded on first use and swapped as an immutable snapshot when they are refreshed.
+ *     A name missing from the snapshot triggers one reload, in case the role was added since the last load.
+ * </p>
+ * <p>
+ *     The roles are detached entities with their ids, so they can be assigned to new users without loading them again.
+ * </p>
+ */
+@Component
+public class RoleRegistry {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RoleRegistry.class);
+
+    private final RoleRepository roleRepository;
+
+    private volatile Map<Roles, Role> roles;
+
+    public RoleRegistry(RoleRepository roleRepository) {
+        this.roleRepository = roleRepository;
+    }
+
+    /**
+     * Find a role by name
+     * @param name the role name
+     * @return the role, or empty if it does not exist
+     */
+    public Optional<Role> find(Roles name) {
+        var role = snapshot().get(name);
+        if (role == null) {
+            role = refresh().get(name);
+        }
+        return Optional.ofNullable(role);
+    }
+
+    /**
+     * Get every role
+     * @return the roles, in the order of {@link Roles}
+     */
+    public List<Role> all() {
+        return List.copyOf(snapshot().values());
+    }
+
+    /**
+     * Load the roles when the application is ready, unless a request already loaded them.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        snapshot();
+    }
+
+    /**
+     * Load the roles again.
+     * It is called whenever roles are seeded.
+     * @return the loaded roles
+     */
+    public synchronized Map<Roles, Role> refresh() {
+        Map<Roles, Role> loaded = new EnumMap<>(Roles.class);
+        roleRepository.findAll().stream()
+                .filter(role -> role.getName() != null)
+                .forEach(role -> loaded.putIfAbsent(role.getName(), role));
+        roles = Collections.unmodifiableMap(loaded);
+        LOGGER.info("Loaded {} roles", loaded.size());
+        return roles;
+    }
+
+    private Map<Roles, Role> snapshot() {
+        var current = roles;
+        return current != null ? current : refresh();
+    }
+}
@@ -2,8 +2,10 @@ package com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt;
 
 import com.levelupjourney.microserviceiam.iam.application.internal.outboundservices.tokens.TokenService;
 import com.levelupjourney.microserviceiam.iam.domain.model.aggregates.User;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.VerifiedToken;
 import jakarta.servlet.http.HttpServletRequest;
-import org.springframework.security.core.Authentication;
+
+import java.util.Optional;
 
 /**
  * This interface is a marker interface for the JWT token service.
@@ -19,14 +21,6 @@ public interface BearerTokenService extends TokenService {
      */
     String getBearerTokenFrom(HttpServletRequest token);
 
-    /**
-     * This method is responsible for generating a JWT token from an authentication object.
-     * @param authentication the authentication object
-     * @return String the JWT token
-     * @see Authentication
-     */
-    String generateToken(Authentication authentication);
-
     /**
      * This method is responsible for generating a JWT token from a user object.
      * @param user the user object
@@ -34,4 +28,12 @@ public interface BearerTokenService extends TokenService {
      * @see User
      */
     String generateToken(User user);
+
+    /**
+     * This method is responsible for verifying a JWT token and decoding its claims in a single pass.
+     * @param token the JWT token
+     * @return Optional the verified token, or empty if the token is invalid or expired
+     * @see VerifiedToken
+     */
+    Optional<VerifiedToken> verifyToken(String token);
 }
@@ -0,0 +1,38 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Token digest
+ * <p>
+ *     SHA-256 digest of a token, stored as four longs so it is cheap to hash and compare as a cache key
+ *     and the raw token is never kept in memory by the caches.
+ * </p>
+ * @param first the first 8 bytes of the digest
+ * @param second the next 8 bytes of the digest
+ * @param third the next 8 bytes of the digest
+ * @param fourth the last 8 bytes of the digest
+ */
+public record TokenDigest(long first, long second, long third, long fourth) {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+
+    /**
+     * Compute the digest of a token
+     * @param token the token
+     * @return TokenDigest the digest
+     */
+    public static TokenDigest of(String token) {
+        var digest = ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+        return new TokenDigest(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+    }
+}
@@ -0,0 +1,235 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.keys;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT key ring
+ * <p>
+ *     This class holds the keys used to sign and verify tokens, so signing keys can be rotated without downtime.
+ *     Exactly one key is active and signs new tokens; verify-only keys keep accepting the tokens issued before
+ *     the rotation until they expire, and retired keys are rejected.
+ * </p>
+ * <p>
+ *     The keys are read from the {@code app.jwt.key-ring} configuration or from the key ring file, which is polled
+ *     for changes. When neither defines keys, the single key from {@code app.jwt} is used as the active key.
+ *     Every load builds an immutable snapshot that is swapped atomically, so lookups never block and a bad
+ *     reload keeps the previous keys in place. A reload that changes the active or verification keys publishes a
+ *     {@link JwtKeyRingChangedEvent}, so tokens verified with a retired key are dropped from the caches.
+ * </p>
+ */
+@Component
+public class JwtKeyRing {
+    private static final Logger LOGGER = LoggerFactory.getLogger(JwtKeyRing.class);
+    private static final String PROPERTIES_PREFIX = "app.jwt.key-ring";
+
+    private final Environment environment;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JwtKeyRingProperties.KeyDefinition legacyKey;
+
+    private volatile Snapshot snapshot;
+    private volatile FileTime fileLastModified;
+
+    public JwtKeyRing(Environment environment,
+                      ObjectMapper objectMapper,
+                      ApplicationEventPublisher eventPublisher,
+                      @Value("${app.jwt.algorithm:HS256}") String algorithm,
+                      @Value("${app.jwt.key-id:default}") String keyId,
+                      @Value("${app.jwt.secret:}") String secret,
+                      @Value("${app.jwt.private-key:}") String privateKey,
+                      @Value("${app.jwt.public-key:}") String publicKey) {
+        this.environment = environment;
+        this.objectMapper = objectMapper.copy().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.eventPublisher = eventPublisher;
+        this.legacyKey = new JwtKeyRingProperties.KeyDefinition();
+        legacyKey.setKeyId(keyId);
+        legacyKey.setAlgorithm(algorithm);
+        legacyKey.setSecret(secret);
+        legacyKey.setPrivateKey(privateKey);
+        legacyKey.setPublicKey(publicKey);
+        this.snapshot = load();
+    }
+
+    /**
+     * Get the key used to sign new tokens
+     * @return JwtSigningKey the active signing key
+     */
+    public JwtSigningKey activeKey() {
+        return snapshot.activeKey();
+    }
+
+    /**
+     * Get the key used to verify a token signed with the given key id.
+     * Tokens without a key id were issued before key ids were introduced and are verified with the legacy key.
+     * @param keyId the key id from the token header, or null
+     * @return JwtSigningKey the verification key, or null if the key id is unknown or retired
+     */
+    public JwtSigningKey verificationKey(String keyId) {
+        var current = snapshot;
+        return current.verificationKeys().get(keyId != null ? keyId : current.legacyKeyId());
+    }
+
+    /**
+     * Get the JWKS document with the public keys of the active and verify-only keys
+     * @return JwksDocument the JWKS document and its entity tag
+     */
+    public JwksDocument jwks() {
+        return snapshot.jwks();
+    }
+
+    /**
+     * Reload the key ring when the key ring file has changed since the last load.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.key-ring.reload-interval:PT30S}",
+            initialDelayString = "${app.jwt.key-ring.reload-interval:PT30S}")
+    public void reloadIfFileChanged() {
+        var file = properties().getFile();
+        if (file == null || file.isBlank()) return;
+        try {
+            var lastModified = Files.getLastModifiedTime(Path.of(file));
+            if (lastModified.equals(fileLastModified)) return;
+        } catch (IOException e) {
+            LOGGER.warn("Could not check JWT key ring file {}: {}", file, e.getMessage());
+            return;
+        }
+        reload();
+    }
+
+    /**
+     * Reload the key ring when the configuration is refreshed.
+     * @param event the environment change event
+     */
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        if (event.getKeys().stream().anyMatch(key -> key.startsWith(PROPERTIES_PREFIX))) {
+            reload();
+        }
+    }
+
+    /**
+     * Reload the key ring, keeping the current keys if the new definition is invalid.
+     */
+    public void reload() {
+        Snapshot previous = snapshot;
+        Snapshot loaded;
+        try {
+            loaded = load();
+        } catch (RuntimeException e) {
+            LOGGER.error("JWT key ring reload failed, keeping key {} active: {}", previous.activeKey().keyId(), e.getMessage());
+            return;
+        }
+        snapshot = loaded;
+        if (!loaded.activeKey().keyId().equals(previous.activeKey().keyId())
+                || !loaded.verificationKeys().equals(previous.verificationKeys())) {
+            eventPublisher.publishEvent(new JwtKeyRingChangedEvent(loaded.activeKey().keyId()));
+        }
+    }
+
+    private JwtKeyRingProperties properties() {
+        return Binder.get(environment)
+                .bind(PROPERTIES_PREFIX, JwtKeyRingProperties.class)
+                .orElseGet(JwtKeyRingProperties::new);
+    }
+
+    private Snapshot load() {
+        var properties = properties();
+        var definitions = properties.getKeys();
+        var file = properties.getFile();
+        if (file != null && !file.isBlank()) {
+            definitions = readFile(Path.of(file));
+        }
+        if (definitions.isEmpty()) {
+            definitions = List.of(legacyKey);
+        }
+        var loaded = build(definitions, properties.getLegacyKeyId());
+        LOGGER.info("Loaded JWT key ring with active key {} and {} verification keys",
+                loaded.activeKey().keyId(), loaded.verificationKeys().size());
+        return loaded;
+    }
+
+    private List<JwtKeyRingProperties.KeyDefinition> readFile(Path file) {
+        try {
+            var lastModified = Files.getLastModifiedTime(file);
+            var ring = objectMapper.readValue(file.toFile(), JwtKeyRingProperties.class);
+            fileLastModified = lastModified;
+            return ring.getKeys();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read JWT key ring file " + file, e);
+        }
+    }
+
+    private static Snapshot build(List<JwtKeyRingProperties.KeyDefinition> definitions, String legacyKeyId) {
+        JwtSigningKey activeKey = null;
+        Map<String, JwtSigningKey> verificationKeys = new HashMap<>();
+        List<JWK> publicJwks = new ArrayList<>();
+        for (var definition : definitions) {
+            if (definition.getKeyId() == null || definition.getKeyId().isBlank()) {
+                throw new IllegalArgumentException("JWT key id is required");
+            }
+            var status = definition.getStatus() != null ? definition.getStatus() : JwtKeyStatus.ACTIVE;
+            if (status == JwtKeyStatus.RETIRED) continue;
+            var key = JwtSigningKeyFactory.create(definition.getKeyId(), definition.getAlgorithm(),
+                    definition.getSecret(), definition.getPrivateKey(), definition.getPublicKey());
+            if (verificationKeys.putIfAbsent(key.keyId(), key) != null) {
+                throw new IllegalArgumentException("Duplicate JWT key id " + key.keyId());
+            }
+            if (status == JwtKeyStatus.ACTIVE) {
+                if (activeKey != null) {
+                    throw new IllegalArgumentException("Only one JWT key can be active, found " + activeKey.keyId() + " and " + key.keyId());
+                }
+                if (key.signingKey() == null) {
+                    throw new IllegalArgumentException("JWT private key is required to sign tokens with key id " + key.keyId());
+                }
+                activeKey = key;
+            }
+            if (key.isAsymmetric()) {
+                publicJwks.add(JwtSigningKeyFactory.toPublicJwk(key));
+            }
+        }
+        if (activeKey == null) {
+            throw new IllegalArgumentException("JWT key ring has no active key");
+        }
+        var jwks = new JWKSet(publicJwks).toString();
+        var eTag = "\"" + DigestUtils.md5DigestAsHex(jwks.getBytes(StandardCharsets.UTF_8)) + "\"";
+        var resolvedLegacyKeyId = verificationKeys.containsKey(legacyKeyId) ? legacyKeyId : activeKey.keyId();
+        return new Snapshot(activeKey, Map.copyOf(verificationKeys), resolvedLegacyKeyId, new JwksDocument(jwks, eTag));
+    }
+
+    /**
+     * JWKS document
+     * @param body the JSON document
+     * @param eTag the quoted entity tag of the document
+     */
+    public record JwksDocument(String body, String eTag) {
+    }
+
+    private record Snapshot(JwtSigningKey activeKey,
+                            Map<String, JwtSigningKey> verificationKeys,
+                            String legacyKeyId,
+                            JwksDocument jwks) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.keys;
+
+/**
+ * JWT key ring changed event
+ * <p>
+ *     This event is published by the {@link JwtKeyRing} when a reload changes the active key or the keys tokens are verified with.
+ *     Caches of verified tokens must drop their entries, since a token verified with a key that has since been retired
+ *     must no longer be accepted.
+ * </p>
+ * @param activeKeyId the key id of the active key after the reload
+ */
+public record JwtKeyRingChangedEvent(String activeKeyId) {
+}
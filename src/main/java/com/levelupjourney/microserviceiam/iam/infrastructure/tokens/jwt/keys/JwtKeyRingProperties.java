@@ -0,0 +1,102 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.keys;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JWT key ring properties
+ * <p>
+ *     This class describes the keys of the {@link JwtKeyRing}.
+ *     It is bound from the {@code app.jwt.key-ring} configuration prefix or read from the key ring file.
+ * </p>
+ */
+public class JwtKeyRingProperties {
+
+    private String file;
+    private String legacyKeyId = "default";
+    private List<KeyDefinition> keys = new ArrayList<>();
+
+    public String getFile() {
+        return file;
+    }
+
+    public void setFile(String file) {
+        this.file = file;
+    }
+
+    public String getLegacyKeyId() {
+        return legacyKeyId;
+    }
+
+    public void setLegacyKeyId(String legacyKeyId) {
+        this.legacyKeyId = legacyKeyId;
+    }
+
+    public List<KeyDefinition> getKeys() {
+        return keys;
+    }
+
+    public void setKeys(List<KeyDefinition> keys) {
+        this.keys = keys != null ? new ArrayList<>(keys) : new ArrayList<>();
+    }
+
+    /**
+     * Definition of a single key of the ring.
+     */
+    public static class KeyDefinition {
+        private String keyId;
+        private String algorithm = JwtSigningKeyFactory.HS256;
+        private JwtKeyStatus status = JwtKeyStatus.ACTIVE;
+        private String secret;
+        private String privateKey;
+        private String publicKey;
+
+        public String getKeyId() {
+            return keyId;
+        }
+
+        public void setKeyId(String keyId) {
+            this.keyId = keyId;
+        }
+
+        public String getAlgorithm() {
+            return algorithm;
+        }
+
+        public void setAlgorithm(String algorithm) {
+            this.algorithm = algorithm;
+        }
+
+        public JwtKeyStatus getStatus() {
+            return status;
+        }
+
+        public void setStatus(JwtKeyStatus status) {
+            this.status = status;
+        }
+
+        public String getSecret() {
+            return secret;
+        }
+
+        public void setSecret(String secret) {
+            this.secret = secret;
+        }
+
+        public String getPrivateKey() {
+            return privateKey;
+        }
+
+        public void setPrivateKey(String privateKey) {
+            this.privateKey = privateKey;
+        }
+
+        public String getPublicKey() {
+            return publicKey;
+        }
+
+        public void setPublicKey(String publicKey) {
+            this.publicKey = publicKey;
+        }
+    }
+}
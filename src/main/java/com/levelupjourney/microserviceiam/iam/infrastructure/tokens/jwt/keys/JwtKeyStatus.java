@@ -0,0 +1,22 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.keys;
+
+/**
+ * JWT key status
+ * <p>
+ *     This enum represents the lifecycle of a key in the {@link JwtKeyRing}.
+ * </p>
+ */
+public enum JwtKeyStatus {
+    /**
+     * The key signs new tokens and verifies existing ones. Exactly one key is active.
+     */
+    ACTIVE,
+    /**
+     * The key only verifies tokens issued before it was rotated out, and is still published in the JWKS document.
+     */
+    VERIFY_ONLY,
+    /**
+     * The key is no longer trusted. Tokens signed with it are rejected.
+     */
+    RETIRED
+}
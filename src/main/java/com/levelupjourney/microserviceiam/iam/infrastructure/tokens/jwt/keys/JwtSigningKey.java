@@ -0,0 +1,27 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.keys;
+
+import java.security.Key;
+import java.security.PublicKey;
+
+/**
+ * JWT signing key
+ * <p>
+ *     This record holds a key used to sign and verify JWT tokens, together with its key id and JWS algorithm.
+ *     For HMAC keys the signing and verification keys are the same secret key.
+ *     For asymmetric keys the signing key is the private key and the verification key is the public key.
+ * </p>
+ * @param keyId the key id published in the {@code kid} header
+ * @param algorithm the JWS algorithm name (HS256, RS256, ES256 or EdDSA)
+ * @param signingKey the key used to sign tokens
+ * @param verificationKey the key used to verify tokens
+ */
+public record JwtSigningKey(String keyId, String algorithm, Key signingKey, Key verificationKey) {
+
+    /**
+     * Check if the key is asymmetric, so its public part can be published in the JWKS document
+     * @return true if the verification key is a public key, false otherwise
+     */
+    public boolean isAsymmetric() {
+        return verificationKey instanceof PublicKey;
+    }
+}
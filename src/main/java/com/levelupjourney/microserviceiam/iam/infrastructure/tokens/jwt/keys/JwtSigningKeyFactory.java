@@ -0,0 +1,131 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.keys;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.util.Base64URL;
+import io.jsonwebtoken.security.Keys;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * This class creates {@link JwtSigningKey} instances from configuration values
+ * and converts their public part to a {@link JWK} for the JWKS document.
+ */
+public final class JwtSigningKeyFactory {
+
+    public static final String HS256 = "HS256";
+    public static final String RS256 = "RS256";
+    public static final String ES256 = "ES256";
+    public static final String EDDSA = "EdDSA";
+
+    private static final int ED25519_PUBLIC_KEY_LENGTH = 32;
+
+    private JwtSigningKeyFactory() {
+    }
+
+    /**
+     * Create an HMAC signing key from a shared secret
+     * @param keyId the key id
+     * @param secret the shared secret
+     * @return JwtSigningKey the signing key
+     */
+    public static JwtSigningKey hmac(String keyId, String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("JWT secret is required for the " + HS256 + " algorithm");
+        }
+        var key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        return new JwtSigningKey(keyId, HS256, key, key);
+    }
+
+    /**
+     * Create an asymmetric signing key from PEM encoded PKCS#8 private and X.509 public keys
+     * @param keyId the key id
+     * @param algorithm the JWS algorithm (RS256, ES256 or EdDSA)
+     * @param privateKeyPem the PEM encoded private key, or null for a verification-only key
+     * @param publicKeyPem the PEM encoded public key
+     * @return JwtSigningKey the signing key
+     */
+    public static JwtSigningKey asymmetric(String keyId, String algorithm, String privateKeyPem, String publicKeyPem) {
+        if (publicKeyPem == null || publicKeyPem.isBlank()) {
+            throw new IllegalArgumentException("JWT public key is required for the " + algorithm + " algorithm");
+        }
+        try {
+            var keyFactory = KeyFactory.getInstance(keyFactoryAlgorithm(algorithm));
+            var publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(decodePem(publicKeyPem)));
+            var privateKey = privateKeyPem == null || privateKeyPem.isBlank()
+                    ? null
+                    : keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decodePem(privateKeyPem)));
+            return new JwtSigningKey(keyId, algorithm, privateKey, publicKey);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Invalid " + algorithm + " key pair for key id " + keyId, e);
+        }
+    }
+
+    /**
+     * Create a signing key for the given algorithm
+     * @param keyId the key id
+     * @param algorithm the JWS algorithm
+     * @param secret the shared secret, used by HS256
+     * @param privateKeyPem the PEM encoded private key, used by asymmetric algorithms
+     * @param publicKeyPem the PEM encoded public key, used by asymmetric algorithms
+     * @return JwtSigningKey the signing key
+     */
+    public static JwtSigningKey create(String keyId, String algorithm, String secret, String privateKeyPem, String publicKeyPem) {
+        if (HS256.equals(algorithm)) {
+            return hmac(keyId, secret);
+        }
+        return asymmetric(keyId, algorithm, privateKeyPem, publicKeyPem);
+    }
+
+    /**
+     * Convert the public part of an asymmetric signing key to a JWK
+     * @param signingKey the signing key
+     * @return JWK the public JWK
+     */
+    public static JWK toPublicJwk(JwtSigningKey signingKey) {
+        var publicKey = signingKey.verificationKey();
+        var algorithm = JWSAlgorithm.parse(signingKey.algorithm());
+        return switch (signingKey.algorithm()) {
+            case RS256 -> new RSAKey.Builder((RSAPublicKey) publicKey)
+                    .keyID(signingKey.keyId()).keyUse(KeyUse.SIGNATURE).algorithm(algorithm).build();
+            case ES256 -> new ECKey.Builder(Curve.P_256, (ECPublicKey) publicKey)
+                    .keyID(signingKey.keyId()).keyUse(KeyUse.SIGNATURE).algorithm(algorithm).build();
+            case EDDSA -> {
+                byte[] encoded = publicKey.getEncoded();
+                byte[] raw = Arrays.copyOfRange(encoded, encoded.length - ED25519_PUBLIC_KEY_LENGTH, encoded.length);
+                yield new OctetKeyPair.Builder(Curve.Ed25519, Base64URL.encode(raw))
+                        .keyID(signingKey.keyId()).keyUse(KeyUse.SIGNATURE).algorithm(algorithm).build();
+            }
+            default -> throw new IllegalArgumentException("Algorithm " + signingKey.algorithm() + " has no public JWK");
+        };
+    }
+
+    private static String keyFactoryAlgorithm(String algorithm) {
+        return switch (algorithm) {
+            case RS256 -> "RSA";
+            case ES256 -> "EC";
+            case EDDSA -> "Ed25519";
+            default -> throw new IllegalArgumentException("Unsupported JWT signing algorithm: " + algorithm);
+        };
+    }
+
+    private static byte[] decodePem(String pem) {
+        var base64 = pem.replace("\\n", "\n")
+                .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                .replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+}
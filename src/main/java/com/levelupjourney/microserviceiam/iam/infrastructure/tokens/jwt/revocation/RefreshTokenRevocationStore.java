@@ -0,0 +1,49 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.revocation;
+
+import com.levelupjourney.microserviceiam.iam.infrastructure.persistence.jpa.repositories.RevokedTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Refresh token revocation store
+ * <p>
+ *     This class records the refresh tokens that have been used, so each refresh token can be consumed only once.
+ *     The used token ids are persisted until the tokens expire.
+ *     Consuming a token is a single atomic insert, which also rejects tokens used on another instance.
+ * </p>
+ */
+@Component
+public class RefreshTokenRevocationStore {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RefreshTokenRevocationStore.class);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    public RefreshTokenRevocationStore(RevokedTokenRepository revokedTokenRepository) {
+        this.revokedTokenRepository = revokedTokenRepository;
+    }
+
+    /**
+     * Consume a refresh token
+     * @param tokenId the token id
+     * @param expiresAt the expiration of the token, after which its record is deleted
+     * @return true if the token was consumed now, false if it had already been used
+     */
+    public boolean consume(UUID tokenId, Instant expiresAt) {
+        return revokedTokenRepository.insertIfAbsent(tokenId, expiresAt) == 1;
+    }
+
+    /**
+     * Delete the records of expired tokens.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.refresh.revocation.cleanup-interval:PT1H}",
+            initialDelayString = "${app.jwt.refresh.revocation.cleanup-interval:PT1H}")
+    public void deleteExpired() {
+        var deleted = revokedTokenRepository.deleteExpired(Instant.now());
+        LOGGER.info("Deleted {} expired refresh token records", deleted);
+    }
+}
@@ -0,0 +1,64 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.revocation;
+
+import com.levelupjourney.microserviceiam.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token version registry
+ * <p>
+ *     This class keeps the current token version of every user whose tokens have been invalidated,
+ *     so the version carried by a token can be checked on every request without querying the database.
+ *     Users that were never invalidated are not stored and have version 0, which keeps the map small.
+ *     Versions only move forward, so invalidation events delivered late or twice are harmless.
+ * </p>
+ */
+@Component
+public class TokenVersionRegistry {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TokenVersionRegistry.class);
+
+    private final UserRepository userRepository;
+    private final Map<UUID, Integer> versions = new ConcurrentHashMap<>();
+
+    public TokenVersionRegistry(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Load the token versions of the users whose tokens have been invalidated.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        var invalidated = userRepository.findInvalidatedTokenVersions();
+        invalidated.forEach(version -> update(version.userId(), version.tokenVersion()));
+        LOGGER.info("Loaded token versions of {} users", invalidated.size());
+    }
+
+    /**
+     * Check if a token issued with the given version is still valid.
+     * Tokens without a user id cannot be invalidated per user, so they are never current.
+     * @param userId the user id carried by the token, or null
+     * @param tokenVersion the token version carried by the token
+     * @return true if the token version is the current version of the user, false otherwise
+     */
+    public boolean isCurrent(UUID userId, int tokenVersion) {
+        return userId != null && tokenVersion >= versions.getOrDefault(userId, 0);
+    }
+
+    /**
+     * Update the token version of a user, ignoring versions older than the known one.
+     * @param userId the user id
+     * @param tokenVersion the new token version
+     */
+    public void update(UUID userId, int tokenVersion) {
+        if (tokenVersion <= 0) return;
+        versions.merge(userId, tokenVersion, Math::max);
+    }
+}
@@ -0,0 +1,120 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.VerifiedToken;
+import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.BearerTokenService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Batch token validation service
+ * <p>
+ *     This class verifies batches of tokens on a dedicated pool sized to the available CPUs, instead of the common pool.
+ *     At most one token per pool thread is in flight for a batch, and results are handed to the caller in request order
+ *     as soon as they are verified, so a batch never holds all of its results in memory.
+ *     When the pool queue is full the calling thread verifies the token itself, which slows the batch down instead of failing it.
+ *     Each caller may verify a bounded number of tokens per quota window.
+ * </p>
+ */
+@Service
+public class BatchTokenValidationService {
+    private final BearerTokenService tokenService;
+    private final ThreadPoolExecutor executor;
+    private final int parallelism;
+    private final int quota;
+    private final Duration quotaWindow;
+    private final Cache<String, QuotaWindow> quotaWindows;
+
+    public BatchTokenValidationService(BearerTokenService tokenService,
+                                       @Value("${app.jwt.validation.threads:0}") int threads,
+                                       @Value("${app.jwt.validation.queue-capacity:256}") int queueCapacity,
+                                       @Value("${app.jwt.validation.quota.tokens:10000}") int quota,
+                                       @Value("${app.jwt.validation.quota.window:PT1M}") Duration quotaWindow,
+                                       MeterRegistry meterRegistry) {
+        this.tokenService = tokenService;
+        this.parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        var threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    var thread = new Thread(runnable, "token-validation-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.quota = quota;
+        this.quotaWindow = quotaWindow;
+        this.quotaWindows = Caffeine.newBuilder()
+                .expireAfterWrite(quotaWindow)
+                .build();
+        Gauge.builder("iam.validation.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Number of token validation tasks waiting in the queue")
+                .register(meterRegistry);
+    }
+
+    /**
+     * This method charges a batch to the quota of its caller.
+     * @param caller The name of the authenticated caller.
+     * @param tokens The number of tokens in the batch.
+     * @throws TokenValidationQuotaExceededException if the batch does not fit in the remaining quota of the caller.
+     */
+    public void acquire(String caller, int tokens) {
+        var window = quotaWindows.get(caller, _ -> new QuotaWindow(Instant.now(), new AtomicInteger()));
+        if (window.used().addAndGet(tokens) > quota) {
+            window.used().addAndGet(-tokens);
+            var retryAfter = Duration.between(Instant.now(), window.startedAt().plus(quotaWindow));
+            throw new TokenValidationQuotaExceededException(retryAfter.isNegative() ? Duration.ZERO : retryAfter);
+        }
+    }
+
+    /**
+     * This method verifies a batch of tokens.
+     * @param tokens The tokens to verify.
+     * @param writer Receives the verified token of each token, or empty for invalid tokens, in the order of the tokens.
+     * @throws IOException if the writer fails; the tokens still in flight are cancelled.
+     */
+    public void validate(List<String> tokens, ResultWriter writer) throws IOException {
+        var inFlight = new ArrayDeque<CompletableFuture<Optional<VerifiedToken>>>(parallelism);
+        try {
+            for (var token : tokens) {
+                if (inFlight.size() == parallelism) writer.write(inFlight.removeFirst().join());
+                inFlight.addLast(CompletableFuture.supplyAsync(() -> tokenService.verifyToken(token), executor));
+            }
+            while (!inFlight.isEmpty()) writer.write(inFlight.removeFirst().join());
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Receives the result of each token of a batch.
+     */
+    @FunctionalInterface
+    public interface ResultWriter {
+        void write(Optional<VerifiedToken> verifiedToken) throws IOException;
+    }
+
+    private record QuotaWindow(Instant startedAt, AtomicInteger used) {
+    }
+}
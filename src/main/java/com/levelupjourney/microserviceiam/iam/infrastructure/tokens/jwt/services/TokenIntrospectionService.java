@@ -0,0 +1,139 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.VerifiedToken;
+import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.BearerTokenService;
+import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.TokenDigest;
+import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.keys.JwtKeyRingChangedEvent;
+import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.revocation.TokenVersionRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Token introspection service
+ * <p>
+ *     This class answers token introspection requests (RFC 7662) with the tokens verified by the {@link BearerTokenService}.
+ *     Active tokens are cached by their SHA-256 digest until they expire, bounded by the maximum time to live,
+ *     so repeated introspection of the same token skips the signature verification.
+ *     Entries can be evicted per token or per user when tokens are revoked, and cached tokens whose
+ *     token version has been invalidated are never reported as active. Every entry is dropped when the JWT keys change.
+ *     Hit, miss and eviction metrics are published under the {@code iam.introspection.tokens} cache name.
+ * </p>
+ */
+@Service
+public class TokenIntrospectionService {
+    private final BearerTokenService tokenService;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final Duration maximumTimeToLive;
+    private final Cache<TokenDigest, VerifiedToken> cache;
+
+    public TokenIntrospectionService(BearerTokenService tokenService,
+                                     TokenVersionRegistry tokenVersionRegistry,
+                                     @Value("${app.jwt.introspection.maximum-size:10000}") long maximumSize,
+                                     @Value("${app.jwt.introspection.maximum-time-to-live:PT1M}") Duration maximumTimeToLive,
+                                     MeterRegistry meterRegistry) {
+        this.tokenService = tokenService;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.maximumTimeToLive = maximumTimeToLive;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "iam.introspection.tokens");
+    }
+
+    /**
+     * This method introspects a token.
+     * @param token The token to introspect.
+     * @return The verified token if the token is active, empty otherwise.
+     */
+    public Optional<VerifiedToken> introspect(String token) {
+        if (token == null || token.isBlank()) return Optional.empty();
+        var digest = TokenDigest.of(token);
+        var cached = cache.getIfPresent(digest);
+        if (cached != null) {
+            if (isExpired(cached) || !tokenVersionRegistry.isCurrent(cached.userId(), cached.tokenVersion())) {
+                cache.invalidate(digest);
+                return Optional.empty();
+            }
+            return Optional.of(cached);
+        }
+        var verifiedToken = tokenService.verifyToken(token);
+        verifiedToken
+                .filter(verified -> verified.expiresAt() != null)
+                .ifPresent(verified -> cache.put(digest, verified));
+        return verifiedToken;
+    }
+
+    /**
+     * This method returns how long an introspection response for a token may be cached by clients.
+     * @param verifiedToken The verified token.
+     * @return The remaining lifetime of the token, bounded by the maximum time to live.
+     */
+    public Duration cacheableFor(VerifiedToken verifiedToken) {
+        if (verifiedToken.expiresAt() == null) return Duration.ZERO;
+        var remaining = Duration.between(Instant.now(), verifiedToken.expiresAt());
+        if (remaining.isNegative()) return Duration.ZERO;
+        return remaining.compareTo(maximumTimeToLive) < 0 ? remaining : maximumTimeToLive;
+    }
+
+    /**
+     * This method evicts the cached introspection of a token.
+     * @param token The token.
+     */
+    public void evict(String token) {
+        cache.invalidate(TokenDigest.of(token));
+    }
+
+    /**
+     * This method evicts the cached introspection of every token of a user.
+     * @param userId The user id.
+     */
+    public void evictUser(UUID userId) {
+        cache.asMap().values().removeIf(verifiedToken -> userId.equals(verifiedToken.userId()));
+    }
+
+    /**
+     * This method evicts every cached token when the JWT keys change, so tokens signed with a retired key are verified again.
+     * @param event The key ring changed event.
+     */
+    @EventListener
+    public void onKeyRingChanged(JwtKeyRingChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    private static boolean isExpired(VerifiedToken verifiedToken) {
+        return !Instant.now().isBefore(verifiedToken.expiresAt());
+    }
+
+    /**
+     * Expires each entry at its token expiration, bounded by the maximum time to live.
+     */
+    private class TokenExpiry implements Expiry<TokenDigest, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(TokenDigest key, VerifiedToken value, long currentTime) {
+            return cacheableFor(value).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,30 +1,40 @@
 package com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.services;
 
 import com.levelupjourney.microserviceiam.iam.domain.model.aggregates.User;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.RefreshTokenClaims;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.RoleMask;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserCredentials;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.VerifiedToken;
 import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.BearerTokenService;
+import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.keys.JwtSigningKey;
+import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.keys.JwtKeyRing;
+import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.revocation.TokenVersionRegistry;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import org.apache.commons.lang3.time.DateUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
-import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * Token service implementation for JWT tokens.
  * This class is responsible for generating and validating JWT tokens.
- * It uses the secret and expiration days from the application.properties file.
+ * It uses the signing keys from the {@link JwtKeyRing} and the expiration days from the application.properties file.
  */
 @Service
 public class TokenServiceImpl implements BearerTokenService {
@@ -35,9 +45,13 @@ public class TokenServiceImpl implements BearerTokenService {
 
     private static final int TOKEN_BEGIN_INDEX = 7;
 
+    private static final int MAX_TOKEN_LENGTH = 8192;
 
-    @Value("${app.jwt.secret}")
-    private String secret;
+    private static final String TOKEN_VERSION_CLAIM = "ver";
+
+    private static final String TOKEN_TYPE_CLAIM = "type";
+
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
 
     @Value("${app.jwt.expiration-hours}")
     private int expirationHours;
@@ -45,25 +59,42 @@ public class TokenServiceImpl implements BearerTokenService {
     @Value("${app.jwt.refresh-expiration-days}")
     private int refreshExpirationDays;
 
-    /**
-     * This method generates a JWT token from an authentication object
-     * @param authentication the authentication object
-     * @return String the JWT token
-     * @see Authentication
-     */
-    @Override
-    public String generateToken(Authentication authentication) {
-        return buildTokenWithDefaultParameters(authentication.getName());
+    private final JwtKeyRing keyRing;
+
+    private final TokenVersionRegistry tokenVersionRegistry;
+
+    private JwtParser jwtParser;
+
+    private final Counter signatureVerifications;
+
+    public TokenServiceImpl(JwtKeyRing keyRing, TokenVersionRegistry tokenVersionRegistry, MeterRegistry meterRegistry) {
+        this.keyRing = keyRing;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.signatureVerifications = Counter.builder("iam.jwt.signature.verifications")
+                .description("Number of JWT signature verifications performed")
+                .register(meterRegistry);
     }
 
     /**
-     * This method generates a JWT token from an email
-     * @param email the email
-     * @return String the JWT token
+     * Build the JWT parser once.
+     * It is immutable and thread-safe, so it is shared by every request.
+     * The verification key is located by the {@code kid} header and must match the {@code alg} header.
      */
-    @Override
-    public String generateToken(String email) {
-        return buildTokenWithDefaultParameters(email);
+    @PostConstruct
+    void initialize() {
+        this.jwtParser = Jwts.parser().keyLocator(new LocatorAdapter<Key>() {
+            @Override
+            protected Key locate(JwsHeader header) {
+                var key = keyRing.verificationKey(header.getKeyId());
+                if (key == null) {
+                    throw new UnsupportedJwtException("Unknown JSON Web Token key id: " + header.getKeyId());
+                }
+                if (!key.algorithm().equals(header.getAlgorithm())) {
+                    throw new UnsupportedJwtException("Unexpected JSON Web Token algorithm: " + header.getAlgorithm());
+                }
+                return key.verificationKey();
+            }
+        }).build();
     }
 
     /**
@@ -73,66 +104,106 @@ public class TokenServiceImpl implements BearerTokenService {
      */
     @Override
     public String generateToken(User user) {
-        var issuedAt = new Date();
-        var expiration = DateUtils.addHours(issuedAt, expirationHours);
-        var key = getSigningKey();
-        List<String> roles = user.getRoles().stream()
-                .map(role -> role.getStringName())
-                .collect(Collectors.toList());
-        return Jwts.builder()
-                .subject(user.getEmail())
-                .claim("userId", user.getId())
-                .claim("email", user.getEmail())
-                .claim("roles", roles)
-                .issuedAt(issuedAt)
-                .expiration(expiration)
-                .signWith(key)
-                .compact();
+        return buildUserToken(user.getId(), user.getEmail(), RoleMask.names(user.getRoleMask()), user.getTokenVersion());
     }
 
     /**
-     * This method generates a JWT token from an email and a secret.
-     * It uses the default expiration days from the application.properties file.
-     * @param email the email
+     * This method generates a JWT token from the credentials of a user
+     * @param credentials the user credentials
      * @return String the JWT token
      */
-    private String buildTokenWithDefaultParameters(String email) {
+    @Override
+    public String generateToken(UserCredentials credentials) {
+        return buildUserToken(credentials.id(), credentials.email(), RoleMask.names(credentials.roleMask()), credentials.tokenVersion());
+    }
+
+    private String buildUserToken(UUID userId, String email, List<String> roles, int tokenVersion) {
         var issuedAt = new Date();
         var expiration = DateUtils.addHours(issuedAt, expirationHours);
-        var key = getSigningKey();
-        return Jwts.builder()
+        return sign(Jwts.builder()
                 .subject(email)
+                .claim("userId", userId)
+                .claim("email", email)
+                .claim("roles", roles)
+                .claim(TOKEN_VERSION_CLAIM, tokenVersion)
                 .issuedAt(issuedAt)
-                .expiration(expiration)
-                .signWith(key)
-                .compact();
+                .expiration(expiration));
+    }
+
+    /**
+     * This method generates a refresh token for a user, carrying the current token version of the user
+     * @param user the user
+     * @return String the refresh token
+     */
+    @Override
+    public String generateRefreshToken(User user) {
+        return sign(refreshTokenBuilder(user.getEmail())
+                .claim("userId", user.getId())
+                .claim(TOKEN_VERSION_CLAIM, user.getTokenVersion()));
     }
 
+    /**
+     * This method generates a refresh token from the credentials of a user, carrying the current token version of the user
+     * @param credentials the user credentials
+     * @return String the refresh token
+     */
     @Override
-    public String generateRefreshToken(String email) {
+    public String generateRefreshToken(UserCredentials credentials) {
+        return sign(refreshTokenBuilder(credentials.email())
+                .claim("userId", credentials.id())
+                .claim(TOKEN_VERSION_CLAIM, credentials.tokenVersion()));
+    }
+
+    private JwtBuilder refreshTokenBuilder(String email) {
         var issuedAt = new Date();
         var expiration = DateUtils.addDays(issuedAt, refreshExpirationDays);
-        var key = getSigningKey();
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(email)
-                .claim("type", "refresh")
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
                 .issuedAt(issuedAt)
-                .expiration(expiration)
-                .signWith(key)
+                .expiration(expiration);
+    }
+
+    /**
+     * Sign a token with the active signing key and publish its key id in the {@code kid} header
+     * @param builder the token builder with the claims already set
+     * @return String the signed JWT token
+     */
+    @SuppressWarnings("unchecked")
+    private String sign(JwtBuilder builder) {
+        JwtSigningKey key = keyRing.activeKey();
+        var algorithm = (SecureDigestAlgorithm<Key, ?>) Jwts.SIG.get().forKey(key.algorithm());
+        return builder.header().keyId(key.keyId()).and()
+                .signWith(key.signingKey(), algorithm)
                 .compact();
     }
 
     @Override
     public boolean validateRefreshToken(String token) {
+        return verifyRefreshToken(token).isPresent();
+    }
+
+    /**
+     * This method verifies a refresh token and extracts its claims.
+     * Refresh tokens issued before token ids were introduced get an id derived from the token itself.
+     * @param token the refresh token
+     * @return Optional the refresh token claims, or empty if the token is not a valid refresh token
+     */
+    @Override
+    public Optional<RefreshTokenClaims> verifyRefreshToken(String token) {
         try {
-            Claims claims = Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token).getPayload();
-            String tokenType = claims.get("type", String.class);
-            if (!"refresh".equals(tokenType)) {
+            Claims claims = extractAllClaims(token);
+            String tokenType = claims.get(TOKEN_TYPE_CLAIM, String.class);
+            if (!REFRESH_TOKEN_TYPE.equals(tokenType)) {
                 LOGGER.error("Token is not a refresh token");
-                return false;
+                return Optional.empty();
             }
+            var tokenId = claims.getId() != null
+                    ? UUID.fromString(claims.getId())
+                    : UUID.nameUUIDFromBytes(token.getBytes(StandardCharsets.UTF_8));
             LOGGER.info("Refresh token is valid");
-            return true;
+            return Optional.of(new RefreshTokenClaims(claims.getSubject(), tokenId, claims.getExpiration().toInstant(), tokenVersion(claims)));
         } catch (SignatureException e) {
             LOGGER.error("Invalid JSON Web Token Signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
@@ -143,16 +214,18 @@ public class TokenServiceImpl implements BearerTokenService {
             LOGGER.error("JSON Web Token is unsupported: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             LOGGER.error("JSON Web Token claims string is empty: {}", e.getMessage());
+        } catch (JwtException e) {
+            LOGGER.error("JSON Web Token is invalid: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
     }
 
     @Override
     public String getEmailFromRefreshToken(String token) {
         try {
             Claims claims = extractAllClaims(token);
-            String tokenType = claims.get("type", String.class);
-            if (!"refresh".equals(tokenType)) {
+            String tokenType = claims.get(TOKEN_TYPE_CLAIM, String.class);
+            if (!REFRESH_TOKEN_TYPE.equals(tokenType)) {
                 LOGGER.error("Token is not a refresh token");
                 throw new IllegalArgumentException("Token is not a refresh token");
             }
@@ -180,10 +253,30 @@ public class TokenServiceImpl implements BearerTokenService {
      */
     @Override
     public boolean validateToken(String token) {
+        return verifyToken(token).isPresent();
+    }
+
+    /**
+     * This method verifies a JWT token and decodes its claims with a single signature verification.
+     * Refresh tokens are rejected: they can only be exchanged for new tokens, never used as bearer tokens.
+     * @param token the token
+     * @return Optional the verified token, or empty if the token is not a valid access token
+     */
+    @Override
+    public Optional<VerifiedToken> verifyToken(String token) {
         try {
-            Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token);
+            Claims claims = extractAllClaims(token);
+            if (REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+                LOGGER.error("Refresh token used as an access token");
+                return Optional.empty();
+            }
+            var verifiedToken = toVerifiedToken(claims);
+            if (!tokenVersionRegistry.isCurrent(verifiedToken.userId(), verifiedToken.tokenVersion())) {
+                LOGGER.error("JSON Web Token has been invalidated");
+                return Optional.empty();
+            }
             LOGGER.info("Token is valid");
-            return true;
+            return Optional.of(verifiedToken);
         }  catch (SignatureException e) {
             LOGGER.error("Invalid JSON Web Token Signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
@@ -194,8 +287,39 @@ public class TokenServiceImpl implements BearerTokenService {
             LOGGER.error("JSON Web Token is unsupported: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             LOGGER.error("JSON Web Token claims string is empty: {}", e.getMessage());
+        } catch (JwtException e) {
+            LOGGER.error("JSON Web Token is invalid: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    /**
+     * Map verified claims to an immutable {@link VerifiedToken}
+     * @param claims the verified claims
+     * @return VerifiedToken the verified token
+     */
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        Object userId = claims.get("userId");
+        Object roles = claims.get("roles");
+        List<String> roleNames = roles instanceof List<?> list
+                ? list.stream().map(String::valueOf).toList()
+                : List.of();
+        return new VerifiedToken(
+                claims.getSubject(),
+                userId != null ? UUID.fromString(userId.toString()) : null,
+                roleNames,
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+                tokenVersion(claims));
+    }
+
+    /**
+     * Get the token version a token was issued with
+     * @param claims the verified claims
+     * @return int the token version, or 0 for tokens issued before token versions were introduced
+     */
+    private int tokenVersion(Claims claims) {
+        return claims.get(TOKEN_VERSION_CLAIM) instanceof Number version ? version.intValue() : 0;
     }
 
     /**
@@ -216,16 +340,43 @@ public class TokenServiceImpl implements BearerTokenService {
      * @return Claims the claims
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token).getPayload();
+        if (!hasCompactJwsStructure(token)) {
+            throw new MalformedJwtException("Token is not a compact JWS");
+        }
+        signatureVerifications.increment();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
     /**
-     * Get the signing key
-     * @return SecretKey the signing key
+     * Cheap structural pre-check run before any Base64 decoding or signature verification.
+     * A compact JWS is three non-empty Base64URL segments separated by exactly two dots.
+     * @param token the token
+     * @return boolean true if the token has the shape of a compact JWS, false otherwise
      */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private boolean hasCompactJwsStructure(String token) {
+        if (token == null || token.isEmpty() || token.length() > MAX_TOKEN_LENGTH) {
+            return false;
+        }
+        int dots = 0;
+        int segmentLength = 0;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (segmentLength == 0 || ++dots > 2) {
+                    return false;
+                }
+                segmentLength = 0;
+            } else if (isBase64UrlCharacter(c)) {
+                segmentLength++;
+            } else {
+                return false;
+            }
+        }
+        return dots == 2 && segmentLength > 0;
+    }
+
+    private static boolean isBase64UrlCharacter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
     }
 
     private boolean isTokenPresentIn(String authorizationParameter) {
@@ -0,0 +1,24 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.services;
+
+import java.time.Duration;
+
+/**
+ * TokenValidationQuotaExceededException
+ * This exception is thrown when a caller has validated more tokens than its quota allows in the current window
+ */
+public class TokenValidationQuotaExceededException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public TokenValidationQuotaExceededException(Duration retryAfter) {
+        super("Token validation quota exceeded");
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Get how long the caller should wait before retrying
+     * @return Duration the time left in the current quota window
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
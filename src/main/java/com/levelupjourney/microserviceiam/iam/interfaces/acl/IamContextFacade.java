@@ -2,8 +2,8 @@ package com.levelupjourney.microserviceiam.iam.interfaces.acl;
 
 import com.levelupjourney.microserviceiam.iam.domain.model.commands.SignUpCommand;
 import com.levelupjourney.microserviceiam.iam.domain.model.entities.Role;
-import com.levelupjourney.microserviceiam.iam.domain.model.queries.GetUserByIdQuery;
-import com.levelupjourney.microserviceiam.iam.domain.model.queries.GetUserByEmailQuery;
+import com.levelupjourney.microserviceiam.iam.domain.model.queries.GetUserSummaryByEmailQuery;
+import com.levelupjourney.microserviceiam.iam.domain.model.queries.GetUserSummaryByIdQuery;
 import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.OAuth2UserInfo;
 import com.levelupjourney.microserviceiam.iam.domain.services.UserCommandService;
 import com.levelupjourney.microserviceiam.iam.domain.services.UserQueryService;
@@ -65,10 +65,10 @@ public class IamContextFacade {
      * @return The id of the user.
      */
     public UUID fetchUserIdByUsername(String username) {
-        var getUserByUsernameQuery = new GetUserByEmailQuery(username);
-        var result = userQueryService.handle(getUserByUsernameQuery);
+        var getUserSummaryByEmailQuery = new GetUserSummaryByEmailQuery(username);
+        var result = userQueryService.handle(getUserSummaryByEmailQuery);
         if (result.isEmpty()) return null;
-        return result.get().getId();
+        return result.get().id();
     }
 
     /**
@@ -77,10 +77,10 @@ public class IamContextFacade {
      * @return The username of the user.
      */
     public String fetchUsernameByUserId(UUID userId) {
-        var getUserByIdQuery = new GetUserByIdQuery(userId);
-        var result = userQueryService.handle(getUserByIdQuery);
+        var getUserSummaryByIdQuery = new GetUserSummaryByIdQuery(userId);
+        var result = userQueryService.handle(getUserSummaryByIdQuery);
         if (result.isEmpty()) return Strings.EMPTY;
-        return result.get().getEmail();
+        return result.get().email();
     }
 
     /**
@@ -1,29 +1,40 @@
 package com.levelupjourney.microserviceiam.iam.interfaces.rest;
 
-import com.levelupjourney.microserviceiam.iam.application.internal.outboundservices.tokens.TokenService;
-import com.levelupjourney.microserviceiam.iam.domain.model.queries.GetUserByEmailQuery;
+import com.levelupjourney.microserviceiam.iam.application.internal.outboundservices.hashing.HashingCapacityExceededException;
+import com.levelupjourney.microserviceiam.iam.domain.model.commands.RefreshTokenCommand;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.VerifiedToken;
 import com.levelupjourney.microserviceiam.iam.domain.services.UserCommandService;
-import com.levelupjourney.microserviceiam.iam.domain.services.UserQueryService;
+import com.levelupjourney.microserviceiam.iam.infrastructure.authorization.sfs.pipeline.BearerAuthorizationRequestFilter;
 import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.BearerTokenService;
+import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.services.BatchTokenValidationService;
+import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.services.TokenValidationQuotaExceededException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.levelupjourney.microserviceiam.iam.interfaces.rest.resources.AuthenticatedUserResource;
+import com.levelupjourney.microserviceiam.iam.interfaces.rest.resources.BatchTokenValidationResource;
 import com.levelupjourney.microserviceiam.iam.interfaces.rest.resources.SignInResource;
 import com.levelupjourney.microserviceiam.iam.interfaces.rest.resources.SignUpResource;
 import com.levelupjourney.microserviceiam.iam.interfaces.rest.resources.UserResource;
-import com.levelupjourney.microserviceiam.iam.interfaces.rest.transform.AuthenticatedUserResourceFromEntityAssembler;
+import com.levelupjourney.microserviceiam.iam.interfaces.rest.transform.AuthenticatedUserResourceFromCredentialsAssembler;
 import com.levelupjourney.microserviceiam.iam.interfaces.rest.transform.SignInCommandFromResourceAssembler;
 import com.levelupjourney.microserviceiam.iam.interfaces.rest.transform.SignUpCommandFromResourceAssembler;
+import com.levelupjourney.microserviceiam.iam.interfaces.rest.transform.TokenValidationResultResourceFromVerifiedTokenAssembler;
 import com.levelupjourney.microserviceiam.iam.interfaces.rest.transform.UserResourceFromEntityAssembler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.security.Principal;
 import java.util.Map;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +46,7 @@ import org.slf4j.LoggerFactory;
  *     <ul>
  *         <li>POST /api/v1/auth/sign-in</li>
  *         <li>POST /api/v1/auth/sign-up</li>
+ *         <li>POST /api/v1/authentication/validate/batch</li>
  *     </ul>
  * </p>
  */
@@ -43,18 +55,24 @@ import org.slf4j.LoggerFactory;
 @Tag(name = "Authentication", description = "Available Authentication Endpoints")
 public class AuthenticationController {
     private final UserCommandService userCommandService;
-    private final UserQueryService userQueryService;
     private final BearerTokenService tokenService;
-    private final TokenService refreshTokenService;
+    private final BatchTokenValidationService batchTokenValidationService;
+    private final ObjectMapper objectMapper;
+    private final int maxBatchSize;
 
     private static final Logger logger = LoggerFactory.getLogger(AuthenticationController.class);
 
-    public AuthenticationController(UserCommandService userCommandService, UserQueryService userQueryService,
-                                   BearerTokenService tokenService, TokenService refreshTokenService) {
+    private static final String REFRESH_TOKEN_HEADER = "refresh_token";
+
+    public AuthenticationController(UserCommandService userCommandService, BearerTokenService tokenService,
+                                   BatchTokenValidationService batchTokenValidationService,
+                                   ObjectMapper objectMapper,
+                                   @Value("${app.jwt.validation.max-batch-size:500}") int maxBatchSize) {
         this.userCommandService = userCommandService;
-        this.userQueryService = userQueryService;
         this.tokenService = tokenService;
-        this.refreshTokenService = refreshTokenService;
+        this.batchTokenValidationService = batchTokenValidationService;
+        this.objectMapper = objectMapper;
+        this.maxBatchSize = maxBatchSize;
     }
 
     /**
@@ -67,7 +85,8 @@ public class AuthenticationController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User authenticated successfully."),
             @ApiResponse(responseCode = "404", description = "User not found."),
-            @ApiResponse(responseCode = "401", description = "Invalid password.")})
+            @ApiResponse(responseCode = "401", description = "Invalid password."),
+            @ApiResponse(responseCode = "503", description = "Too many sign-in requests, retry later.")})
     public ResponseEntity<AuthenticatedUserResource> signIn(@RequestBody SignInResource signInResource) {
         try {
             var signInCommand = SignInCommandFromResourceAssembler.toCommandFromResource(signInResource);
@@ -75,10 +94,12 @@ public class AuthenticationController {
             if (authenticatedUser.isEmpty()) {
                 return ResponseEntity.notFound().build();
             }
-            var user = authenticatedUser.get().getLeft();
+            var credentials = authenticatedUser.get().getLeft();
             var tokenPair = authenticatedUser.get().getRight();
-            var authenticatedUserResource = AuthenticatedUserResourceFromEntityAssembler.toResourceFromEntity(user, tokenPair.accessToken(), tokenPair.refreshToken());
+            var authenticatedUserResource = AuthenticatedUserResourceFromCredentialsAssembler.toResourceFromCredentials(credentials, tokenPair.accessToken(), tokenPair.refreshToken());
             return ResponseEntity.ok(authenticatedUserResource);
+        } catch (HashingCapacityExceededException e) {
+            return serviceUnavailable(e);
         } catch (RuntimeException e) {
             if (e.getMessage().contains("User not found")) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
@@ -100,7 +121,8 @@ public class AuthenticationController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "User created successfully."),
             @ApiResponse(responseCode = "400", description = "Bad request."),
-            @ApiResponse(responseCode = "409", description = "Email already exists.")})
+            @ApiResponse(responseCode = "409", description = "Email already exists."),
+            @ApiResponse(responseCode = "503", description = "Too many sign-up requests, retry later.")})
     public ResponseEntity<UserResource> signUp(@RequestBody SignUpResource signUpResource) {
         try {
             logger.info("Sign up resource: {}", signUpResource);
@@ -112,6 +134,8 @@ public class AuthenticationController {
             }
             var userResource = UserResourceFromEntityAssembler.toResourceFromEntity(user.get());
             return new ResponseEntity<>(userResource, HttpStatus.CREATED);
+        } catch (HashingCapacityExceededException e) {
+            return serviceUnavailable(e);
         } catch (RuntimeException e) {
             if (e.getMessage().contains("Email address already exists")) {
                 return ResponseEntity.status(HttpStatus.CONFLICT).build();
@@ -126,6 +150,7 @@ public class AuthenticationController {
 
     /**
      * Validates the current token/session.
+     * Reuses the token already verified by the {@link BearerAuthorizationRequestFilter} when available.
      * @param request the HTTP request.
      * @return the validation response.
      */
@@ -139,12 +164,14 @@ public class AuthenticationController {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
             try {
-                if (tokenService.validateToken(token)) {
-                    String email = tokenService.getEmailFromToken(token);
+                var verifiedToken = request.getAttribute(BearerAuthorizationRequestFilter.VERIFIED_TOKEN_ATTRIBUTE) instanceof VerifiedToken verified
+                        ? Optional.of(verified)
+                        : tokenService.verifyToken(token);
+                if (verifiedToken.isPresent()) {
                     return ResponseEntity.ok(Map.of(
                         "valid", true,
                         "message", "Token is valid",
-                        "email", email
+                        "email", verifiedToken.get().subject()
                     ));
                 }
             } catch (Exception e) {
@@ -160,42 +187,93 @@ public class AuthenticationController {
         ));
     }
 
+    /**
+     * Validates a batch of tokens in one call, for an authenticated caller within its validation quota.
+     * The tokens are verified on the token validation pool and each result is streamed back as soon as it is verified,
+     * in the same order as the request.
+     * @param batchTokenValidationResource the tokens to validate.
+     * @param principal the authenticated caller.
+     * @return the validation result of each token.
+     */
+    @PostMapping("/validate/batch")
+    @Operation(summary = "Validate Tokens", description = "Validate a batch of tokens in one call.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tokens validated."),
+            @ApiResponse(responseCode = "400", description = "Missing tokens or batch too large."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized."),
+            @ApiResponse(responseCode = "429", description = "Validation quota exceeded; retry after the Retry-After delay.")})
+    public ResponseEntity<StreamingResponseBody> validateTokens(@RequestBody BatchTokenValidationResource batchTokenValidationResource,
+                                                                Principal principal) {
+        var tokens = batchTokenValidationResource.tokens();
+        if (tokens == null || tokens.isEmpty() || tokens.size() > maxBatchSize) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            batchTokenValidationService.acquire(principal.getName(), tokens.size());
+        } catch (TokenValidationQuotaExceededException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                    .build();
+        }
+        StreamingResponseBody body = outputStream -> {
+            try (var generator = objectMapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                batchTokenValidationService.validate(tokens, verifiedToken -> generator.writeObject(
+                        TokenValidationResultResourceFromVerifiedTokenAssembler.toResourceFromVerifiedToken(verifiedToken)));
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     /**
      * Handles the refresh token request.
      * Gets the refresh token from refresh_token header and generates new access token.
+     * The refresh token can be used only once; the new refresh token is returned in the refresh_token response header.
      * @param request the HTTP request.
      * @return the new access token.
      */
     @PostMapping("/refresh")
-    @Operation(summary = "Refresh Token", description = "Generate new access token using refresh token from refresh_token header.")
+    @Operation(summary = "Refresh Token", description = "Generate new access token using refresh token from refresh_token header. The rotated refresh token is returned in the refresh_token response header.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Token refreshed successfully."),
-            @ApiResponse(responseCode = "401", description = "Invalid or expired refresh token.")})
+            @ApiResponse(responseCode = "401", description = "Invalid, expired or already used refresh token.")})
     public ResponseEntity<String> refreshToken(HttpServletRequest request) {
         try {
-            String refreshToken = request.getHeader("refresh_token");
+            String refreshToken = request.getHeader(REFRESH_TOKEN_HEADER);
             if (refreshToken == null || refreshToken.isEmpty()) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Missing refresh_token header");
             }
-            
-            if (!refreshTokenService.validateRefreshToken(refreshToken)) {
+
+            var refreshed = userCommandService.handle(new RefreshTokenCommand(refreshToken));
+            if (refreshed.isEmpty()) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid or expired refresh token");
             }
-            
-            String emailAddress = refreshTokenService.getEmailFromRefreshToken(refreshToken);
-            var getUserQuery = new GetUserByEmailQuery(emailAddress);
-            var user = userQueryService.handle(getUserQuery);
-            
-            if (user.isEmpty()) {
+
+            var tokenPair = refreshed.get().getRight();
+            return ResponseEntity.ok()
+                    .header(REFRESH_TOKEN_HEADER, tokenPair.refreshToken())
+                    .body(tokenPair.accessToken());
+
+        } catch (RuntimeException e) {
+            if (e.getMessage() != null && e.getMessage().contains("User not found")) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not found");
             }
-            
-            String newAccessToken = refreshTokenService.generateToken(emailAddress);
-            
-            return ResponseEntity.ok(newAccessToken);
-            
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid refresh token: " + e.getMessage());
+            if (e.getMessage() != null && e.getMessage().contains("already used")) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Refresh token already used");
+            }
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid or expired refresh token");
         }
     }
+
+    /**
+     * Builds the response for a request rejected because the password hashing capacity is exhausted.
+     * @param e the capacity exception.
+     * @return the 503 response with a Retry-After header.
+     */
+    private static <T> ResponseEntity<T> serviceUnavailable(HashingCapacityExceededException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .build();
+    }
 }
@@ -0,0 +1,59 @@
+package com.levelupjourney.microserviceiam.iam.interfaces.rest;
+
+import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.keys.JwtKeyRing;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+
+/**
+ * JWKS Controller
+ * <p>
+ *     This controller publishes the public keys used to sign tokens as a JSON Web Key Set,
+ *     so other services can verify tokens locally instead of calling the validate endpoint.
+ *     The document is cacheable and supports conditional requests through its ETag.
+ * </p>
+ */
+@RestController
+@Tag(name = "JWKS", description = "JSON Web Key Set Endpoint")
+public class JwksController {
+    private final JwtKeyRing keyRing;
+    private final CacheControl cacheControl;
+
+    public JwksController(JwtKeyRing keyRing,
+                          @Value("${app.jwt.jwks.max-age:PT15M}") Duration maxAge) {
+        this.keyRing = keyRing;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    /**
+     * Get the JSON Web Key Set
+     * @param request the web request, used to answer conditional requests
+     * @return the JWKS document, or 304 Not Modified when the client copy is current
+     */
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get JSON Web Key Set", description = "Get the public keys used to verify the tokens issued by this service.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "JWKS retrieved successfully."),
+            @ApiResponse(responseCode = "304", description = "JWKS not modified.")})
+    public ResponseEntity<String> getJwks(WebRequest request) {
+        var jwks = keyRing.jwks();
+        var eTag = jwks.eTag();
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(304).cacheControl(cacheControl).eTag(eTag).build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .eTag(eTag)
+                .body(jwks.body());
+    }
+}
@@ -3,6 +3,7 @@ package com.levelupjourney.microserviceiam.iam.interfaces.rest;
 import com.levelupjourney.microserviceiam.iam.domain.model.aggregates.User;
 import com.levelupjourney.microserviceiam.iam.domain.model.commands.SignUpCommand;
 import com.levelupjourney.microserviceiam.iam.domain.model.entities.Role;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.Password;
 import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.Roles;
 import com.levelupjourney.microserviceiam.iam.domain.services.RoleQueryService;
 import com.levelupjourney.microserviceiam.iam.domain.services.UserCommandService;
@@ -87,7 +88,7 @@ public class OAuth2Controller {
             Role userRole = roleQueryService.handle(new com.levelupjourney.microserviceiam.iam.domain.model.queries.GetRoleByNameQuery(Roles.ROLE_STUDENT))
                     .orElseThrow(() -> new RuntimeException("User role not found"));
             
-            SignUpCommand signUpCommand = new SignUpCommand(username, "oauth2_password", List.of(userRole));
+            SignUpCommand signUpCommand = new SignUpCommand(username, Password.generate().password(), List.of(userRole));
             Optional<User> newUser = userCommandService.handle(signUpCommand);
             
             if (newUser.isEmpty()) {
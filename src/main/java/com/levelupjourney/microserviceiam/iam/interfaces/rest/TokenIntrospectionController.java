@@ -0,0 +1,61 @@
+package com.levelupjourney.microserviceiam.iam.interfaces.rest;
+
+import com.levelupjourney.microserviceiam.iam.infrastructure.tokens.jwt.services.TokenIntrospectionService;
+import com.levelupjourney.microserviceiam.iam.interfaces.rest.resources.TokenIntrospectionResource;
+import com.levelupjourney.microserviceiam.iam.interfaces.rest.transform.TokenIntrospectionResourceFromVerifiedTokenAssembler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Token Introspection Controller
+ * <p>
+ *     This controller implements the OAuth 2.0 token introspection endpoint (RFC 7662),
+ *     so gateways and sidecar proxies can check tokens without custom integration code.
+ *     Callers must authenticate with their own access token; only access tokens are reported as active.
+ *     Active responses are cacheable for the remaining lifetime of the token, bounded by the introspection cache time to live.
+ * </p>
+ */
+@RestController
+@Tag(name = "Token Introspection", description = "OAuth 2.0 Token Introspection Endpoint")
+public class TokenIntrospectionController {
+    private final TokenIntrospectionService tokenIntrospectionService;
+
+    public TokenIntrospectionController(TokenIntrospectionService tokenIntrospectionService) {
+        this.tokenIntrospectionService = tokenIntrospectionService;
+    }
+
+    /**
+     * Introspect a token
+     * @param token the token to introspect
+     * @param tokenTypeHint the type of the token, ignored since refresh tokens are never active
+     * @return the introspection response, with {@code active} false for invalid, expired, revoked or refresh tokens
+     */
+    @PostMapping(value = "/oauth2/introspect",
+            consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Introspect Token", description = "Get the state and claims of a token (RFC 7662).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Token introspected."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized.")})
+    public ResponseEntity<TokenIntrospectionResource> introspect(@RequestParam("token") String token,
+                                                                 @RequestParam(value = "token_type_hint", required = false) String tokenTypeHint) {
+        var verifiedToken = tokenIntrospectionService.introspect(token);
+        if (verifiedToken.isEmpty()) {
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore())
+                    .body(TokenIntrospectionResourceFromVerifiedTokenAssembler.toInactiveResource());
+        }
+        var maxAge = tokenIntrospectionService.cacheableFor(verifiedToken.get());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(maxAge))
+                .body(TokenIntrospectionResourceFromVerifiedTokenAssembler.toResourceFromVerifiedToken(verifiedToken.get()));
+    }
+}
@@ -1,55 +1,154 @@
 package com.levelupjourney.microserviceiam.iam.interfaces.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.levelupjourney.microserviceiam.iam.domain.model.commands.RevokeUserTokensCommand;
+import com.levelupjourney.microserviceiam.iam.domain.model.queries.ExportUsersQuery;
 import com.levelupjourney.microserviceiam.iam.domain.model.queries.GetAllUsersQuery;
-import com.levelupjourney.microserviceiam.iam.domain.model.queries.GetUserByIdQuery;
+import com.levelupjourney.microserviceiam.iam.domain.model.queries.GetUserSummaryByIdQuery;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.Roles;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserPageCursor;
+import com.levelupjourney.microserviceiam.iam.domain.services.UserCommandService;
 import com.levelupjourney.microserviceiam.iam.domain.services.UserQueryService;
 import com.levelupjourney.microserviceiam.iam.interfaces.rest.resources.UserResource;
-import com.levelupjourney.microserviceiam.iam.interfaces.rest.transform.UserResourceFromEntityAssembler;
+import com.levelupjourney.microserviceiam.iam.interfaces.rest.transform.UserExportResourceFromUserExportAssembler;
+import com.levelupjourney.microserviceiam.iam.interfaces.rest.transform.UserResourceFromSummaryAssembler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * This class is a REST controller that exposes the users resource.
  * It includes the following operations:
- * - GET /api/v1/users: returns all the users
+ * - GET /api/v1/users: returns a page of the users, optionally filtered by role and creation time
+ * - GET /api/v1/users/export: streams every user as NDJSON
  * - GET /api/v1/users/{userId}: returns the user with the given id
+ * - POST /api/v1/users/{userId}/tokens/revoke: invalidates every token of the user with the given id
  **/
 @RestController
 @RequestMapping(value = "/api/v1/users", produces = MediaType.APPLICATION_JSON_VALUE)
 @Tag(name = "Users", description = "Available User Endpoints")
 public class UsersController {
+    private static final int EXPORT_FLUSH_INTERVAL = 1000;
+
     private final UserQueryService userQueryService;
+    private final UserCommandService userCommandService;
+    private final ObjectMapper objectMapper;
+    private final int maxPageSize;
 
-    public UsersController(UserQueryService userQueryService) {
+    public UsersController(UserQueryService userQueryService,
+                           UserCommandService userCommandService,
+                           ObjectMapper objectMapper,
+                           @Value("${app.users.page.max-size:200}") int maxPageSize) {
         this.userQueryService = userQueryService;
+        this.userCommandService = userCommandService;
+        this.objectMapper = objectMapper;
+        this.maxPageSize = maxPageSize;
     }
 
     /**
-     * This method returns all the users.
+     * This method returns a page of the users, ordered by creation time.
+     * When there are more users, the Link header holds the URL of the next page (rel="next").
+     * @param limit the maximum number of users in the page
+     * @param cursor the cursor of the page, taken from the previous page, or null for the first page
+     * @param role the role the users must have, or null for every role
+     * @param createdFrom the inclusive lower bound of the creation time, or null
+     * @param createdTo the exclusive upper bound of the creation time, or null
      * @return a list of user resources
      * @see UserResource
      */
     @GetMapping
-    @Operation(summary = "Get all users", description = "Get all the users available in the system.")
+    @Operation(summary = "Get all users", description = "Get a page of the users available in the system. The next page is linked in the Link header.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Users retrieved successfully."),
+            @ApiResponse(responseCode = "400", description = "Invalid page size or cursor."),
             @ApiResponse(responseCode = "401", description = "Unauthorized.")})
-    public ResponseEntity<List<UserResource>> getAllUsers() {
-        var getAllUsersQuery = new GetAllUsersQuery();
-        var users = userQueryService.handle(getAllUsersQuery);
-        var userResources = users.stream().map(UserResourceFromEntityAssembler::toResourceFromEntity).toList();
-        return ResponseEntity.ok(userResources);
+    public ResponseEntity<List<UserResource>> getAllUsers(
+            @RequestParam(defaultValue = "${app.users.page.default-size:50}") int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Roles role,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdTo) {
+        if (limit < 1 || limit > maxPageSize) {
+            return ResponseEntity.badRequest().build();
+        }
+        UserPageCursor after;
+        try {
+            after = cursor != null ? UserPageCursor.fromToken(cursor) : null;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        var getAllUsersQuery = new GetAllUsersQuery(role, createdFrom, createdTo, after, limit);
+        var page = userQueryService.handle(getAllUsersQuery);
+        var userResources = page.users().stream().map(UserResourceFromSummaryAssembler::toResourceFromSummary).toList();
+        if (page.nextCursor() == null) {
+            return ResponseEntity.ok(userResources);
+        }
+        var next = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("cursor", page.nextCursor().toToken())
+                .toUriString();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"")
+                .body(userResources);
+    }
+
+    /**
+     * This method streams every user as newline-delimited JSON, one user per line, in creation order.
+     * The users are written to the response as they are read from the database cursor: the headers are sent
+     * before the first row is read and the output is flushed every {@value #EXPORT_FLUSH_INTERVAL} users,
+     * so the memory used does not depend on the number of users.
+     * @param response the HTTP response to write to
+     * @throws IOException if the response cannot be written
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Export users", description = "Stream every user as newline-delimited JSON.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Users streamed successfully."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized."),
+            @ApiResponse(responseCode = "403", description = "Forbidden.")})
+    public void exportUsers(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        response.flushBuffer();
+        try (var generator = objectMapper.createGenerator(response.getOutputStream())) {
+            // Lines are separated explicitly, instead of the space written between root values by default
+            generator.setRootValueSeparator(null);
+            var written = new int[1];
+            userQueryService.handle(new ExportUsersQuery(), userExport -> {
+                try {
+                    generator.writeObject(UserExportResourceFromUserExportAssembler.toResourceFromUserExport(userExport));
+                    generator.writeRaw('\n');
+                    if (++written[0] % EXPORT_FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
     }
 
     /**
@@ -66,12 +165,33 @@ public class UsersController {
             @ApiResponse(responseCode = "404", description = "User not found."),
             @ApiResponse(responseCode = "401", description = "Unauthorized.")})
     public ResponseEntity<UserResource> getUserById(@PathVariable UUID userId) {
-        var getUserByIdQuery = new GetUserByIdQuery(userId);
-        var user = userQueryService.handle(getUserByIdQuery);
+        var getUserSummaryByIdQuery = new GetUserSummaryByIdQuery(userId);
+        var user = userQueryService.handle(getUserSummaryByIdQuery);
         if (user.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
-        var userResource = UserResourceFromEntityAssembler.toResourceFromEntity(user.get());
+        var userResource = UserResourceFromSummaryAssembler.toResourceFromSummary(user.get());
         return ResponseEntity.ok(userResource);
     }
+
+    /**
+     * This method invalidates every access and refresh token of the user with the given id.
+     * @param userId the user id
+     * @return no content, or not found if the user does not exist
+     */
+    @PostMapping(value = "/{userId}/tokens/revoke")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Revoke user tokens", description = "Invalidate every token issued to the user with the given id.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Tokens revoked successfully."),
+            @ApiResponse(responseCode = "404", description = "User not found."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized."),
+            @ApiResponse(responseCode = "403", description = "Forbidden.")})
+    public ResponseEntity<Void> revokeUserTokens(@PathVariable UUID userId) {
+        var user = userCommandService.handle(new RevokeUserTokensCommand(userId));
+        if (user.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,6 @@
+package com.levelupjourney.microserviceiam.iam.interfaces.rest.resources;
+
+import java.util.List;
+
+public record BatchTokenValidationResource(List<String> tokens) {
+}
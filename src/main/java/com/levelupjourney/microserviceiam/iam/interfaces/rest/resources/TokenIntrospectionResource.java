@@ -0,0 +1,12 @@
+package com.levelupjourney.microserviceiam.iam.interfaces.rest.resources;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TokenIntrospectionResource(boolean active,
+                                         @JsonProperty("token_type") String tokenType,
+                                         String sub, Long exp, Long iat, String scope, UUID userId) {
+}
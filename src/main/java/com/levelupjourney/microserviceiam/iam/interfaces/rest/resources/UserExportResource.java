@@ -0,0 +1,8 @@
+package com.levelupjourney.microserviceiam.iam.interfaces.rest.resources;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record UserExportResource(UUID id, String email, Instant createdAt, List<String> roles) {
+}
@@ -0,0 +1,10 @@
+package com.levelupjourney.microserviceiam.iam.interfaces.rest.transform;
+
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserCredentials;
+import com.levelupjourney.microserviceiam.iam.interfaces.rest.resources.AuthenticatedUserResource;
+
+public class AuthenticatedUserResourceFromCredentialsAssembler {
+    public static AuthenticatedUserResource toResourceFromCredentials(UserCredentials credentials, String token, String refreshToken) {
+        return new AuthenticatedUserResource(credentials.id(), credentials.email(), token, refreshToken);
+    }
+}
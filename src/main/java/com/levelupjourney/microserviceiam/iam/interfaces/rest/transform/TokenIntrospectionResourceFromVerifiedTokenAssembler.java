@@ -0,0 +1,30 @@
+package com.levelupjourney.microserviceiam.iam.interfaces.rest.transform;
+
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.VerifiedToken;
+import com.levelupjourney.microserviceiam.iam.interfaces.rest.resources.TokenIntrospectionResource;
+
+import java.time.Instant;
+
+public class TokenIntrospectionResourceFromVerifiedTokenAssembler {
+    private static final String TOKEN_TYPE = "Bearer";
+    private static final TokenIntrospectionResource INACTIVE = new TokenIntrospectionResource(false, null, null, null, null, null, null);
+
+    public static TokenIntrospectionResource toResourceFromVerifiedToken(VerifiedToken verifiedToken) {
+        return new TokenIntrospectionResource(
+                true,
+                TOKEN_TYPE,
+                verifiedToken.subject(),
+                toEpochSecond(verifiedToken.expiresAt()),
+                toEpochSecond(verifiedToken.issuedAt()),
+                String.join(" ", verifiedToken.roles()),
+                verifiedToken.userId());
+    }
+
+    public static TokenIntrospectionResource toInactiveResource() {
+        return INACTIVE;
+    }
+
+    private static Long toEpochSecond(Instant instant) {
+        return instant != null ? instant.getEpochSecond() : null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.levelupjourney.microserviceiam.iam.interfaces.rest.transform;
+
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.VerifiedToken;
+import com.levelupjourney.microserviceiam.iam.interfaces.rest.resources.TokenValidationResultResource;
+
+import java.util.List;
+import java.util.Optional;
+
+public class TokenValidationResultResourceFromVerifiedTokenAssembler {
+    private static final TokenValidationResultResource INVALID = new TokenValidationResultResource(false, null, null, List.of(), null);
+
+    public static TokenValidationResultResource toResourceFromVerifiedToken(Optional<VerifiedToken> verifiedToken) {
+        return verifiedToken
+                .map(token -> new TokenValidationResultResource(true, token.subject(), token.userId(), token.roles(), token.expiresAt()))
+                .orElse(INVALID);
+    }
+}
@@ -0,0 +1,12 @@
+package com.levelupjourney.microserviceiam.iam.interfaces.rest.transform;
+
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.Roles;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserExport;
+import com.levelupjourney.microserviceiam.iam.interfaces.rest.resources.UserExportResource;
+
+public class UserExportResourceFromUserExportAssembler {
+    public static UserExportResource toResourceFromUserExport(UserExport userExport) {
+        var roles = userExport.roles().stream().map(Roles::name).toList();
+        return new UserExportResource(userExport.id(), userExport.email(), userExport.createdAt(), roles);
+    }
+}
@@ -0,0 +1,10 @@
+package com.levelupjourney.microserviceiam.iam.interfaces.rest.transform;
+
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserSummary;
+import com.levelupjourney.microserviceiam.iam.interfaces.rest.resources.UserResource;
+
+public class UserResourceFromSummaryAssembler {
+    public static UserResource toResourceFromSummary(UserSummary userSummary) {
+        return new UserResource(userSummary.id(), userSummary.email());
+    }
+}
@@ -27,4 +27,18 @@ public class KafkaTopicConfiguration {
                 .replicas(1)
                 .build();
     }
+
+    /**
+     * Creates the user tokens invalidated topic
+     * This topic is used to publish events when every token of a user is invalidated
+     *
+     * @return NewTopic configuration
+     */
+    @Bean
+    public NewTopic userTokensInvalidatedTopic() {
+        return TopicBuilder.name("iam.user.tokens-invalidated")
+                .partitions(3)
+                .replicas(1)
+                .build();
+    }
 }
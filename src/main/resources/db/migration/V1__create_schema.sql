@@ -0,0 +1,40 @@
+-- Schema previously created by hibernate ddl-auto: update.
+-- Databases created that way are baselined at version 0 and run this script too,
+-- so every statement only creates what is missing.
+
+CREATE TABLE IF NOT EXISTS role (
+    id   UUID        NOT NULL,
+    name VARCHAR(20),
+    CONSTRAINT role_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    id               UUID         NOT NULL,
+    created_at       TIMESTAMP(6) NOT NULL,
+    updated_at       TIMESTAMP(6) NOT NULL,
+    email_address    VARCHAR(255),
+    email_normalized VARCHAR(255),
+    password         VARCHAR(255),
+    token_version    INTEGER      NOT NULL DEFAULT 0,
+    CONSTRAINT users_pkey PRIMARY KEY (id),
+    CONSTRAINT users_email_address_key UNIQUE (email_address)
+);
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS email_normalized VARCHAR(255);
+ALTER TABLE users ADD COLUMN IF NOT EXISTS token_version INTEGER NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS user_roles (
+    user_id UUID NOT NULL,
+    role_id UUID NOT NULL,
+    CONSTRAINT user_roles_pkey PRIMARY KEY (user_id, role_id),
+    CONSTRAINT user_roles_user_id_fkey FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT user_roles_role_id_fkey FOREIGN KEY (role_id) REFERENCES role (id)
+);
+
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    token_id   UUID                        NOT NULL,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT revoked_tokens_pkey PRIMARY KEY (token_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
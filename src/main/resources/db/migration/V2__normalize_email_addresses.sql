@@ -0,0 +1,40 @@
+-- Users are looked up by their trimmed, lowercase email address.
+-- Addresses that only differ by case or surrounding whitespace would belong to the same user, so they must be
+-- merged or renamed by hand first: when there are any, the migration fails and lists them instead of picking one.
+DO $$
+DECLARE
+    collisions TEXT;
+BEGIN
+    SELECT string_agg(format('%s: %s', normalized, accounts), E'\n' ORDER BY normalized)
+    INTO collisions
+    FROM (SELECT COALESCE(email_normalized, LOWER(TRIM(email_address))) AS normalized,
+                 string_agg(format('%s <%s>', id, email_address), ', ' ORDER BY created_at, id) AS accounts
+          FROM users
+          WHERE COALESCE(email_normalized, LOWER(TRIM(email_address))) IS NOT NULL
+          GROUP BY 1
+          HAVING COUNT(*) > 1) duplicates;
+    IF collisions IS NOT NULL THEN
+        RAISE EXCEPTION 'Users with email addresses that only differ by case or surrounding whitespace must be merged or renamed before normalizing them'
+            USING DETAIL = collisions;
+    END IF;
+END
+$$;
+
+UPDATE users SET email_normalized = LOWER(TRIM(email_address)) WHERE email_normalized IS NULL;
+
+ALTER TABLE users ALTER COLUMN email_normalized SET NOT NULL;
+
+-- Databases created by ddl-auto already have a unique constraint on the column, under a generated name
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1
+                   FROM pg_index i
+                            JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = i.indkey[0]
+                   WHERE i.indrelid = 'users'::regclass
+                     AND i.indisunique
+                     AND i.indnatts = 1
+                     AND a.attname = 'email_normalized') THEN
+        CREATE UNIQUE INDEX users_email_normalized_key ON users (email_normalized);
+    END IF;
+END
+$$;
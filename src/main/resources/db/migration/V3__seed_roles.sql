@@ -0,0 +1,8 @@
+-- Roles are stored by name; the check constraint ddl-auto generated from the enum rejected new roles.
+ALTER TABLE role DROP CONSTRAINT IF EXISTS role_name_check;
+
+-- gen_random_uuid() is built in since PostgreSQL 13; older servers need CREATE EXTENSION pgcrypto first.
+INSERT INTO role (id, name)
+SELECT gen_random_uuid(), seed.name
+FROM (VALUES ('ROLE_STUDENT'), ('ROLE_TEACHER'), ('ROLE_ADMIN')) AS seed (name)
+WHERE NOT EXISTS (SELECT 1 FROM role WHERE role.name = seed.name);
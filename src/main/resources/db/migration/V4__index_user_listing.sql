@@ -0,0 +1,3 @@
+-- GET /api/v1/users pages by (created_at, id) and can filter by role
+CREATE INDEX IF NOT EXISTS idx_users_created_at_id ON users (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_user_roles_role_id_user_id ON user_roles (role_id, user_id);
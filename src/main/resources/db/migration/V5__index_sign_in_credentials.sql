@@ -0,0 +1,30 @@
+-- Sign-in reads the credentials by normalized email. Including them in the unique index lets the users side of the
+-- query be an index-only scan; the roles are read through the user_roles primary key.
+CREATE UNIQUE INDEX IF NOT EXISTS users_email_normalized_credentials_key
+    ON users (email_normalized) INCLUDE (id, password, token_version);
+-- The covering index enforces the uniqueness on its own. Drop the other unique indexes on the column, whatever their
+-- name: the one V2 created, or the constraint ddl-auto created, which can only be dropped through the constraint.
+DO $$
+DECLARE
+    superseded RECORD;
+BEGIN
+    FOR superseded IN SELECT i.indexrelid::regclass AS index_name, c.conname AS constraint_name
+                      FROM pg_index i
+                               JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = i.indkey[0]
+                               LEFT JOIN pg_constraint c ON c.conrelid = i.indrelid AND c.conindid = i.indexrelid
+                      WHERE i.indrelid = 'users'::regclass
+                        AND i.indisunique
+                        AND NOT i.indisprimary
+                        AND i.indnkeyatts = 1
+                        AND i.indpred IS NULL
+                        AND a.attname = 'email_normalized'
+                        AND i.indexrelid <> 'users_email_normalized_credentials_key'::regclass
+    LOOP
+        IF superseded.constraint_name IS NOT NULL THEN
+            EXECUTE format('ALTER TABLE users DROP CONSTRAINT %I', superseded.constraint_name);
+        ELSE
+            EXECUTE format('DROP INDEX %s', superseded.index_name);
+        END IF;
+    END LOOP;
+END
+$$;
@@ -0,0 +1,46 @@
+-- The roles of a user are read from a bitmask on the user row, one bit per role in the order of the Roles enum:
+-- ROLE_STUDENT = 1, ROLE_TEACHER = 2, ROLE_ADMIN = 4. The user_roles join table is still written by the application.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS role_mask SMALLINT NOT NULL DEFAULT 0;
+
+UPDATE users u
+SET role_mask = m.role_mask
+FROM (SELECT ur.user_id,
+             bit_or(CASE r.name
+                        WHEN 'ROLE_STUDENT' THEN 1
+                        WHEN 'ROLE_TEACHER' THEN 2
+                        WHEN 'ROLE_ADMIN' THEN 4
+                        ELSE 0
+                    END)::SMALLINT AS role_mask
+      FROM user_roles ur
+      JOIN role r ON r.id = ur.role_id
+      GROUP BY ur.user_id) m
+WHERE m.user_id = u.id;
+
+-- Sign-in reads the role mask with the credentials, from the covering index on the normalized email
+CREATE UNIQUE INDEX IF NOT EXISTS users_email_normalized_sign_in_key
+    ON users (email_normalized) INCLUDE (id, password, token_version, role_mask);
+-- It supersedes the V5 covering index, and any other unique index left on the column by an earlier schema
+DO $$
+DECLARE
+    superseded RECORD;
+BEGIN
+    FOR superseded IN SELECT i.indexrelid::regclass AS index_name, c.conname AS constraint_name
+                      FROM pg_index i
+                               JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = i.indkey[0]
+                               LEFT JOIN pg_constraint c ON c.conrelid = i.indrelid AND c.conindid = i.indexrelid
+                      WHERE i.indrelid = 'users'::regclass
+                        AND i.indisunique
+                        AND NOT i.indisprimary
+                        AND i.indnkeyatts = 1
+                        AND i.indpred IS NULL
+                        AND a.attname = 'email_normalized'
+                        AND i.indexrelid <> 'users_email_normalized_sign_in_key'::regclass
+    LOOP
+        IF superseded.constraint_name IS NOT NULL THEN
+            EXECUTE format('ALTER TABLE users DROP CONSTRAINT %I', superseded.constraint_name);
+        ELSE
+            EXECUTE format('DROP INDEX %s', superseded.index_name);
+        END IF;
+    END LOOP;
+END
+$$;
@@ -0,0 +1,158 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.valueobjects;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmailAddressTest {
+    // The pattern EmailAddress validated with before the single pass; the accepted and rejected formats must not change
+    private static final Pattern OLD_PATTERN = Pattern.compile(
+            "^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$");
+
+    private static final String EMPTY = "Email address cannot be null or empty";
+    private static final String TOO_LONG = "Email address cannot exceed 255 characters";
+    private static final String INVALID_FORMAT = "Invalid email address format";
+    private static final String LOCAL_PART_TOO_LONG = "Email local part cannot exceed 64 characters";
+
+    @Test
+    void validAddressesAreAccepted() {
+        assertAccepted("jane.doe@example.com");
+        assertAccepted("j_a+n&e*-@example.com");
+        assertAccepted("-jane@-example-.com");
+        assertAccepted("jane@mail.example.co");
+        assertAccepted("JANE@EXAMPLE.COM");
+        assertAccepted("1234@123.example.com");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {".jane@example.com", "ja..ne@example.com", "jane.@example.com",
+            "jane@.example.com", "jane@example..com", "jane@example.com."})
+    void leadingConsecutiveAndTrailingDotsAreRejectedInBothParts(String email) {
+        assertRejected(email, INVALID_FORMAT);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"jane@ex_ample.com", "jane@ex+ample.com", "jane@ex&ample.com", "jane@ex*ample.com"})
+    void localPartSymbolsAreRejectedInTheDomain(String email) {
+        assertRejected(email, INVALID_FORMAT);
+    }
+
+    @Test
+    void topLevelDomainHasTwoToSevenLetters() {
+        assertRejected("jane@example.c", INVALID_FORMAT);
+        assertAccepted("jane@example.io");
+        assertAccepted("jane@example.website");
+        assertRejected("jane@example.software", INVALID_FORMAT);
+        assertRejected("jane@example.c0m", INVALID_FORMAT);
+        assertRejected("jane@example.123", INVALID_FORMAT);
+        assertAccepted("jane@example.c0m.io");
+    }
+
+    @Test
+    void domainNeedsADotAndAddressNeedsExactlyOneAt() {
+        assertRejected("jane@localhost", INVALID_FORMAT);
+        assertRejected("jane@doe@example.com", INVALID_FORMAT);
+        assertRejected("jane.example.com", INVALID_FORMAT);
+        assertRejected("@example.com", INVALID_FORMAT);
+        assertRejected("jane@", INVALID_FORMAT);
+    }
+
+    @Test
+    void otherCharactersAreRejected() {
+        assertRejected("ja ne@example.com", INVALID_FORMAT);
+        assertRejected("jäne@example.com", INVALID_FORMAT);
+        assertRejected("jane@exämple.com", INVALID_FORMAT);
+        assertRejected("\"jane\"@example.com", INVALID_FORMAT);
+    }
+
+    @Test
+    void surroundingWhitespaceIsIgnored() {
+        var emailAddress = assertAccepted(" \tJane.Doe@Example.com\n ");
+
+        assertEquals(" \tJane.Doe@Example.com\n ", emailAddress.email());
+        assertEquals("jane.doe@example.com", emailAddress.normalized());
+        assertEquals(" \tJane.Doe", emailAddress.getLocalPart());
+        assertEquals("Example.com\n ", emailAddress.getDomainPart());
+    }
+
+    @Test
+    void blankAddressesAreRejected() {
+        assertRejected(null, EMPTY);
+        assertRejected("", EMPTY);
+        assertRejected(" \t\n", EMPTY);
+    }
+
+    @Test
+    void localPartHasAtMost64Characters() {
+        assertAccepted("a".repeat(64) + "@example.com");
+        assertRejected("a".repeat(65) + "@example.com", LOCAL_PART_TOO_LONG);
+        assertAccepted("  " + "a".repeat(64) + "@example.com  ");
+    }
+
+    @Test
+    void domainPartHasAtMost253CharactersWithinTheAddressLimit() {
+        var domain = "a".repeat(63) + "." + "b".repeat(63) + "." + "c".repeat(63) + "." + "d".repeat(57) + ".com";
+        assertEquals(253, domain.length());
+
+        assertAccepted("j@" + domain);
+        // A longer domain no longer fits in the 255 characters of the whole address, which is checked first
+        assertRejected("j@e" + domain, TOO_LONG);
+        assertRejected("jane@" + domain, TOO_LONG);
+    }
+
+    @Test
+    void normalizedAddressIsTrimmedAndLowercase() {
+        var lowercase = "jane.doe@example.com";
+        assertSame(lowercase, new EmailAddress(lowercase).normalized());
+        assertEquals(lowercase, new EmailAddress("Jane.Doe@EXAMPLE.com").normalized());
+        assertEquals("jane.doe@example.com", new EmailAddress(" jane.doe@example.com").normalized());
+    }
+
+    @Test
+    void partsAreSplitAtTheAtSign() {
+        var emailAddress = new EmailAddress("Jane.Doe+levelup@Mail.Example.com");
+
+        assertEquals("Jane.Doe+levelup", emailAddress.getLocalPart());
+        assertEquals("Mail.Example.com", emailAddress.getDomainPart());
+    }
+
+    @Test
+    void loadedAddressesAreNotValidatedAndFindTheirPartsLazily() {
+        var emailAddress = new EmailAddress();
+        ReflectionTestUtils.setField(emailAddress, "email", "Jane.Doe@Example.com");
+        ReflectionTestUtils.setField(emailAddress, "normalized", "jane.doe@example.com");
+
+        assertEquals("jane.doe@example.com", emailAddress.normalized());
+        assertEquals("Jane.Doe", emailAddress.getLocalPart());
+        assertEquals("Example.com", emailAddress.getDomainPart());
+        assertEquals(new EmailAddress("Jane.Doe@Example.com"), emailAddress);
+
+        var empty = new EmailAddress();
+        assertNull(empty.getLocalPart());
+        assertNull(empty.getDomainPart());
+    }
+
+    private static EmailAddress assertAccepted(String email) {
+        assertTrue(OLD_PATTERN.matcher(email.trim()).matches(), email);
+        return assertDoesNotThrow(() -> new EmailAddress(email), email);
+    }
+
+    private static void assertRejected(String email, String message) {
+        if (INVALID_FORMAT.equals(message)) {
+            assertFalse(OLD_PATTERN.matcher(email.trim()).matches(), email);
+        }
+        var exception = assertThrows(IllegalArgumentException.class, () -> new EmailAddress(email), email);
+        assertEquals(message, exception.getMessage(), email);
+    }
+}
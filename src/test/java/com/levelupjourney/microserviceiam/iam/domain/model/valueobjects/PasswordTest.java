@@ -0,0 +1,127 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.valueobjects;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PasswordTest {
+    private static final String EMPTY = "Password cannot be null or empty";
+    private static final String TOO_SHORT = "Password must be at least 8 characters long";
+    private static final String TOO_LONG = "Password cannot exceed 128 characters";
+    private static final String NO_LOWERCASE = "Password must contain at least one lowercase letter";
+    private static final String NO_UPPERCASE = "Password must contain at least one uppercase letter";
+    private static final String NO_DIGIT = "Password must contain at least one digit";
+    private static final String NO_SPECIAL = "Password must contain at least one special character (!@#$%^&*()_+-=[]{}|;':\"\\,.<>?/)";
+    private static final String SEQUENTIAL = "Password cannot contain sequential characters (123, abc, etc.)";
+    private static final String WEAK_PATTERN = "Password cannot contain common weak patterns";
+    private static final String REPEATED = "Password cannot contain more than 3 consecutive identical characters";
+
+    @Test
+    void validPasswordsAreAccepted() {
+        assertAccepted("Kx7!mQz#");
+        assertAccepted("Kx7!mQz#".repeat(16));
+    }
+
+    @Test
+    void lengthIsCheckedBeforeTheCharacterClasses() {
+        assertRejected(null, EMPTY);
+        assertRejected("", EMPTY);
+        assertRejected("kx7mqz", TOO_SHORT);
+        assertRejected("Kx7!mQz", TOO_SHORT);
+        assertRejected("Kx7!mQz#".repeat(16) + "a", TOO_LONG);
+        assertRejected("a".repeat(129), TOO_LONG);
+    }
+
+    @Test
+    void characterClassesAreCheckedInOrder() {
+        assertRejected("KX!!MQZ#", NO_LOWERCASE);
+        assertRejected("KX7!MQZ#", NO_LOWERCASE);
+        assertRejected("kx!!mqz#", NO_UPPERCASE);
+        assertRejected("kx7!mqz#", NO_UPPERCASE);
+        assertRejected("Kx!!mQz#", NO_DIGIT);
+        assertRejected("Kx7mmQz9", NO_SPECIAL);
+    }
+
+    @Test
+    void patternsAreCheckedAfterTheCharacterClassesInOrder() {
+        assertRejected("kx7abcqz", NO_UPPERCASE);
+        assertRejected("Q1!abcadmin", SEQUENTIAL);
+        assertRejected("Q1!adminzzzz", WEAK_PATTERN);
+        assertRejected("Kx7!mmmmQz", REPEATED);
+        assertAccepted("Kx7!mmmQz");
+    }
+
+    @Test
+    void sequencesAreAscendingAndCaseInsensitive() {
+        assertRejected("Kx7!mXYZ", SEQUENTIAL);
+        assertRejected("x7!ABCqK", SEQUENTIAL);
+        assertRejected("Kx!345Qz", SEQUENTIAL);
+        assertAccepted("Kx7!cbaQ");
+        assertAccepted("Kx!543Qz");
+    }
+
+    @Test
+    void onlyTheDigitSequenceWrapsAroundAndNothingContinuesPastIt() {
+        assertRejected("Kx!890Qz", SEQUENTIAL);
+        assertAccepted("Kx!901Qz");
+        assertRejected("Kx!9012Qz", SEQUENTIAL);
+        assertAccepted("Kq7!yzaB");
+    }
+
+    @Test
+    void weakWordsAreMatchedCaseInsensitively() {
+        assertRejected("QWERTYx7!", WEAK_PATTERN);
+        assertRejected("Xadmin7!", WEAK_PATTERN);
+        assertRejected("My7!PassWord", WEAK_PATTERN);
+    }
+
+    @Test
+    void capitalIWithDotAboveEndsSequencesAndWeakWords() {
+        assertRejected("Xadmin7!", WEAK_PATTERN);
+        assertAccepted("Xadm\u0130n7!");
+        assertRejected("Qijk7!mz", SEQUENTIAL);
+        assertAccepted("Q\u0130jk7!mz");
+        assertRejected("Qgh\u01307!mz", SEQUENTIAL);
+        assertAccepted("Qh\u0130jm7!z");
+    }
+
+    @Test
+    void capitalIWithDotAboveIsNotAnUppercaseLetter() {
+        assertRejected("x\u01307!mqzw", NO_UPPERCASE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\n", "\r", "\u0085", "\u2028", "\u2029"})
+    void lineTerminatorsFailEveryCharacterClassCheck(String lineTerminator) {
+        assertRejected("Kx7!mQz#" + lineTerminator, NO_LOWERCASE);
+        assertRejected(lineTerminator + "Kx7!mQz#", NO_LOWERCASE);
+    }
+
+    @Test
+    void otherWhitespaceIsAllowed() {
+        assertAccepted("Kx7!\tmQz");
+        assertAccepted("Kx7! mQz");
+    }
+
+    @Test
+    void generatedPasswordsSatisfyThePolicy() {
+        for (int i = 0; i < 100; i++) {
+            var password = Password.generate();
+            assertEquals(32, password.password().length());
+            assertAccepted(password.password());
+        }
+    }
+
+    private static void assertAccepted(String password) {
+        assertDoesNotThrow(() -> new Password(password), password);
+    }
+
+    private static void assertRejected(String password, String message) {
+        var exception = assertThrows(IllegalArgumentException.class, () -> new Password(password), password);
+        assertEquals(message, exception.getMessage(), password);
+    }
+}
@@ -0,0 +1,64 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RoleMaskTest {
+
+    @Test
+    void bitsMatchTheValuesStoredByV6() {
+        assertEquals(1, RoleMask.bit(Roles.ROLE_STUDENT));
+        assertEquals(2, RoleMask.bit(Roles.ROLE_TEACHER));
+        assertEquals(4, RoleMask.bit(Roles.ROLE_ADMIN));
+    }
+
+    @Test
+    void everyMaskRoundTrips() {
+        for (short mask = 0; mask < 8; mask++) {
+            var roles = RoleMask.roles(mask);
+            var expected = EnumSet.noneOf(Roles.class);
+            for (Roles role : Roles.values()) {
+                if ((mask & RoleMask.bit(role)) != 0) expected.add(role);
+            }
+
+            assertEquals(expected, roles, "mask " + mask);
+            assertEquals(mask, RoleMask.of(roles), "mask " + mask);
+            assertEquals(expected.stream().map(Roles::name).toList(), RoleMask.names(mask), "mask " + mask);
+        }
+    }
+
+    @Test
+    void rolesAndNamesAreInDeclarationOrder() {
+        assertEquals(List.of("ROLE_STUDENT", "ROLE_TEACHER", "ROLE_ADMIN"), RoleMask.names((short) 7));
+        assertEquals(List.of(Roles.ROLE_STUDENT, Roles.ROLE_TEACHER, Roles.ROLE_ADMIN),
+                List.copyOf(RoleMask.roles((short) 7)));
+    }
+
+    @Test
+    void unknownHighBitsAreIgnored() {
+        assertEquals(Set.of(), RoleMask.roles((short) 8));
+        assertEquals(Set.of(Roles.ROLE_TEACHER), RoleMask.roles((short) (0x10 | 2)));
+        assertEquals(List.of("ROLE_STUDENT", "ROLE_ADMIN"), RoleMask.names((short) (0xF8 | 5)));
+        assertSame(RoleMask.roles((short) 7), RoleMask.roles((short) -1));
+        assertSame(RoleMask.names((short) 3), RoleMask.names((short) (Short.MIN_VALUE | 3)));
+    }
+
+    @Test
+    void decodedRolesAreImmutable() {
+        assertThrows(UnsupportedOperationException.class, () -> RoleMask.roles((short) 1).add(Roles.ROLE_ADMIN));
+        assertThrows(UnsupportedOperationException.class, () -> RoleMask.names((short) 1).add("ROLE_ADMIN"));
+    }
+
+    @Test
+    void duplicateRolesEncodeOnce() {
+        assertEquals(1, RoleMask.of(List.of(Roles.ROLE_STUDENT, Roles.ROLE_STUDENT)));
+        assertEquals(0, RoleMask.of(List.of()));
+    }
+}
@@ -0,0 +1,68 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserPageCursorTest {
+    private static final Instant CREATED_AT = Instant.parse("2024-05-01T10:15:30.123456789Z");
+    private static final UUID ID = UUID.fromString("10000000-0000-0000-0000-000000000001");
+
+    @Test
+    void tokensRoundTripWithNanosecondPrecision() {
+        var cursor = new UserPageCursor(CREATED_AT, ID);
+
+        assertEquals(cursor, UserPageCursor.fromToken(cursor.toToken()));
+    }
+
+    @Test
+    void tokensAreUrlSafeWithoutPadding() {
+        var token = new UserPageCursor(CREATED_AT, ID).toToken();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), token);
+    }
+
+    @Test
+    void tokensThatAreNotBase64AreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> UserPageCursor.fromToken("not a cursor!"));
+        assertThrows(IllegalArgumentException.class, () -> UserPageCursor.fromToken("a"));
+        assertThrows(IllegalArgumentException.class, () -> UserPageCursor.fromToken("ab+/"));
+    }
+
+    @Test
+    void tokensWithoutSeparatorAreRejected() {
+        var exception = assertThrows(IllegalArgumentException.class, () -> UserPageCursor.fromToken(token(CREATED_AT + " " + ID)));
+        assertEquals("Invalid cursor", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> UserPageCursor.fromToken(""));
+    }
+
+    @Test
+    void tokensWithAnInvalidCreationTimeAreRejected() {
+        var exception = assertThrows(IllegalArgumentException.class, () -> UserPageCursor.fromToken(token("yesterday|" + ID)));
+        assertEquals("Invalid cursor", exception.getMessage());
+    }
+
+    @Test
+    void tokensWithAnInvalidIdAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> UserPageCursor.fromToken(token(CREATED_AT + "|not-a-uuid")));
+        assertThrows(IllegalArgumentException.class, () -> UserPageCursor.fromToken(token(CREATED_AT + "|")));
+        assertThrows(IllegalArgumentException.class, () -> UserPageCursor.fromToken(token(CREATED_AT + "|" + ID + "|" + ID)));
+    }
+
+    @Test
+    void cursorsRequireACreationTimeAndAnId() {
+        assertThrows(IllegalArgumentException.class, () -> new UserPageCursor(null, ID));
+        assertThrows(IllegalArgumentException.class, () -> new UserPageCursor(CREATED_AT, null));
+    }
+
+    private static String token(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
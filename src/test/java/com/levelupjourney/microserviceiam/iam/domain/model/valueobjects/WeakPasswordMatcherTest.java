@@ -0,0 +1,76 @@
+package com.levelupjourney.microserviceiam.iam.domain.model.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeakPasswordMatcherTest {
+
+    @Test
+    void wordsAreMatchedAnywhereInTheInput() {
+        var matcher = new WeakPasswordMatcher("password", "admin");
+
+        assertTrue(matches(matcher, "mypassword1"));
+        assertTrue(matches(matcher, "xxadminxx"));
+        assertFalse(matches(matcher, "passwor"));
+        assertFalse(matches(matcher, "adm1n"));
+    }
+
+    @Test
+    void failureLinksFindWordsThatOverlapAPartialMatch() {
+        var matcher = new WeakPasswordMatcher("he", "she", "his", "hers");
+
+        assertEquals("...X.X", matchPositions(matcher, "ushers"));
+        assertTrue(matches(matcher, "ahishe"));
+        assertFalse(matches(matcher, "hxixsx"));
+    }
+
+    @Test
+    void wordsThatContainOtherWordsMatchWhereEachWordEnds() {
+        var matcher = new WeakPasswordMatcher("password123", "password");
+
+        assertEquals(".......X..X", matchPositions(matcher, "password123"));
+    }
+
+    @Test
+    void inputIsMatchedCaseSensitively() {
+        var matcher = new WeakPasswordMatcher("qwerty");
+
+        assertFalse(matches(matcher, "QWERTY"));
+        assertTrue(matches(matcher, "qwerty"));
+    }
+
+    @Test
+    void nonAsciiCharactersMoveBackToTheRoot() {
+        var matcher = new WeakPasswordMatcher("monkey");
+        int state = WeakPasswordMatcher.ROOT;
+        for (char c : "monk".toCharArray()) {
+            state = matcher.next(state, c);
+        }
+
+        assertEquals(WeakPasswordMatcher.ROOT, matcher.next(state, 'é'));
+        assertFalse(matches(matcher, "monkéey"));
+    }
+
+    @Test
+    void nonAsciiWordsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new WeakPasswordMatcher("contraseña"));
+    }
+
+    private static boolean matches(WeakPasswordMatcher matcher, String input) {
+        return matchPositions(matcher, input).indexOf('X') >= 0;
+    }
+
+    private static String matchPositions(WeakPasswordMatcher matcher, String input) {
+        var positions = new StringBuilder();
+        int state = WeakPasswordMatcher.ROOT;
+        for (int i = 0; i < input.length(); i++) {
+            state = matcher.next(state, input.charAt(i));
+            positions.append(matcher.matches(state) ? 'X' : '.');
+        }
+        return positions.toString();
+    }
+}
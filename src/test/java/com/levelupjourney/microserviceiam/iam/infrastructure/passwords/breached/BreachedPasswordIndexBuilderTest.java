@@ -0,0 +1,84 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.passwords.breached;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BreachedPasswordIndexBuilderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void plainPasswordsAreFoundAfterBuildingTheIndex() throws IOException {
+        var index = build(List.of("password", "123456", "", "password", "letmein"), true);
+
+        assertEquals(3, index.size());
+        assertTrue(index.contains("password"));
+        assertTrue(index.contains("123456"));
+        assertTrue(index.contains("letmein"));
+        assertFalse(index.contains("Password"));
+        assertFalse(index.contains(""));
+    }
+
+    @Test
+    void hashListsWithCountsAreFoundAfterBuildingTheIndex() throws IOException {
+        var index = build(List.of(
+                "5BAA61E4C9B93F3F0682250B6CF8331B7EE68FD8:3861493",
+                "7c4a8d09ca3762af61e59520943dc26494f8941b",
+                "  B1B3773A05C0ED0176787A4F1574FF0075F7521E:42  "), false);
+
+        assertEquals(3, index.size());
+        assertTrue(index.contains("password"));
+        assertTrue(index.contains("123456"));
+        assertTrue(index.contains("qwerty"));
+        assertFalse(index.contains("letmein"));
+    }
+
+    @Test
+    void everyHashIsFoundAcrossBuckets() throws IOException {
+        var passwords = new ArrayList<String>();
+        for (int i = 0; i < 20_000; i++) {
+            passwords.add("breached-" + i);
+        }
+        var index = build(passwords, true);
+
+        assertEquals(passwords.size(), index.size());
+        for (var password : passwords) {
+            assertTrue(index.containsHash(BreachedPasswordIndex.hash(password)), password);
+        }
+        for (int i = 0; i < 1_000; i++) {
+            assertFalse(index.contains("not-breached-" + i));
+        }
+        assertFalse(index.containsHash(0L));
+        assertFalse(index.containsHash(-1L));
+    }
+
+    @Test
+    void linesThatAreNotSha1HashesAreRejected() throws IOException {
+        var input = Files.write(directory.resolve("hashes.txt"), List.of("5BAA61E4C9B93F3F:1"), StandardCharsets.UTF_8);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> BreachedPasswordIndexBuilder.build(input, directory.resolve("index.idx"), false));
+    }
+
+    private BreachedPasswordIndex build(List<String> lines, boolean plain) throws IOException {
+        var input = Files.write(directory.resolve("input.txt"), lines, StandardCharsets.UTF_8);
+        var output = directory.resolve("breached-passwords.idx");
+        long written = BreachedPasswordIndexBuilder.build(input, output, plain);
+        var index = BreachedPasswordIndex.open(output);
+        assertEquals(written, index.size());
+        return index;
+    }
+}
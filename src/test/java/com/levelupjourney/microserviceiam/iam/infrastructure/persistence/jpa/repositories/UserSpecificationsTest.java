@@ -0,0 +1,58 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.persistence.jpa.repositories;
+
+import com.levelupjourney.microserviceiam.iam.domain.model.aggregates.User;
+import com.levelupjourney.microserviceiam.iam.domain.model.valueobjects.UserPageCursor;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserSpecificationsTest {
+    private static final Instant CREATED_AT = Instant.parse("2024-05-01T10:15:30.123456789Z");
+    private static final UUID ID = UUID.fromString("10000000-0000-0000-0000-000000000001");
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void afterStartsStrictlyAfterTheCursorInCreatedAtThenIdOrder() {
+        Root<User> root = mock(Root.class);
+        CriteriaQuery<?> query = mock(CriteriaQuery.class);
+        var builder = mock(CriteriaBuilder.class);
+        Path<Date> createdAt = mock(Path.class);
+        Path<UUID> id = mock(Path.class);
+        when(root.<Date>get("createdAt")).thenReturn(createdAt);
+        when(root.<UUID>get("id")).thenReturn(id);
+
+        var cursorCreatedAt = Timestamp.from(CREATED_AT);
+        var atOrAfterCursorTime = mock(Predicate.class);
+        var afterCursorTime = mock(Predicate.class);
+        var afterCursorId = mock(Predicate.class);
+        var afterCursor = mock(Predicate.class);
+        var keyset = mock(Predicate.class);
+        when(builder.greaterThanOrEqualTo(createdAt, cursorCreatedAt)).thenReturn(atOrAfterCursorTime);
+        when(builder.greaterThan(createdAt, cursorCreatedAt)).thenReturn(afterCursorTime);
+        when(builder.greaterThan(id, ID)).thenReturn(afterCursorId);
+        when(builder.or(afterCursorTime, afterCursorId)).thenReturn(afterCursor);
+        when(builder.and(atOrAfterCursorTime, afterCursor)).thenReturn(keyset);
+
+        var predicate = UserSpecifications.after(new UserPageCursor(CREATED_AT, ID)).toPredicate(root, query, builder);
+
+        // createdAt >= t AND (createdAt > t OR id > cursor id): the cursor row itself is excluded
+        assertSame(keyset, predicate);
+        verify(builder, never()).greaterThanOrEqualTo(eq(id), any(UUID.class));
+    }
+}
@@ -0,0 +1,33 @@
+package com.levelupjourney.microserviceiam.iam.infrastructure.passwords.breached;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Breached password index tool
+ * <p>
+ *     This command line tool writes a breached password index with the {@link BreachedPasswordIndexBuilder}.
+ *     It is only compiled by the {@code tools} profile, so it is not shipped with the service.
+ * </p>
+ * <pre>
+ *     mvn -Ptools compile
+ *     java -cp target/classes com.levelupjourney.microserviceiam.iam.infrastructure.passwords.breached.BreachedPasswordIndexTool [--plain] input.txt breached-passwords.idx
+ * </pre>
+ */
+public final class BreachedPasswordIndexTool {
+
+    private BreachedPasswordIndexTool() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        boolean plain = args.length == 3 && args[0].equals("--plain");
+        if (args.length != (plain ? 3 : 2)) {
+            System.err.println("Usage: BreachedPasswordIndexTool [--plain] <input> <output>");
+            System.exit(2);
+        }
+        var input = Path.of(args[plain ? 1 : 0]);
+        var output = Path.of(args[plain ? 2 : 1]);
+        long size = BreachedPasswordIndexBuilder.build(input, output, plain);
+        System.out.println("Wrote " + size + " hashes to " + output);
+    }
+}